@@ -0,0 +1,116 @@
+package br.com.movieflix.benchmark;
+
+import br.com.movieflix.config.JwtAlgorithm;
+import br.com.movieflix.config.JwtKeySet;
+import br.com.movieflix.config.TokenRevocationList;
+import br.com.movieflix.config.TokenService;
+import br.com.movieflix.controller.request.MovieRequest;
+import br.com.movieflix.entity.Category;
+import br.com.movieflix.entity.Movie;
+import br.com.movieflix.entity.Streaming;
+import br.com.movieflix.entity.User;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.LongStream;
+
+final class BenchmarkData {
+
+	static final String SECRET = "palavra-secreta";
+
+	private BenchmarkData() {
+	}
+
+	static TokenService tokenService() {
+		return tokenService(keySet(JwtAlgorithm.HS256), 10_000);
+	}
+
+	/**
+	 * Com {@code tokenCacheSize} zero toda verificação confere a assinatura.
+	 */
+	static TokenService tokenService(JwtKeySet keySet, long tokenCacheSize) {
+		return new TokenService(keySet, tokenCacheSize, Duration.ofMinutes(15), new SimpleMeterRegistry());
+	}
+
+	static JwtKeySet keySet(JwtAlgorithm algorithm) {
+		return algorithm.isAsymmetric() ? JwtKeySet.ephemeral(algorithm) : JwtKeySet.hmac(SECRET);
+	}
+
+	/**
+	 * Lista de revogação vazia; a consulta não acessa o repositório, apenas o bloom filter.
+	 */
+	static TokenRevocationList tokenRevocationList() {
+		return new TokenRevocationList(null, 100_000, new SimpleMeterRegistry());
+	}
+
+	static MovieRequest movieRequest(int associations) {
+		List<Long> ids = LongStream.rangeClosed(1, associations).boxed().toList();
+		return MovieRequest.builder()
+				.title("O Poderoso Chefão")
+				.description("A saga da família Corleone, que controla o crime organizado em Nova York.")
+				.releaseDate(LocalDate.of(1972, 3, 24))
+				.rating(9.2)
+				.categories(ids)
+				.streamings(ids)
+				.build();
+	}
+
+	static Movie movie(int associations) {
+		return Movie.builder()
+				.id(1L)
+				.title("O Poderoso Chefão")
+				.description("A saga da família Corleone, que controla o crime organizado em Nova York.")
+				.releaseDate(LocalDate.of(1972, 3, 24))
+				.rating(9.2)
+				.categories(LongStream.rangeClosed(1, associations)
+						.mapToObj(id -> Category.builder().id(id).name("Categoria " + id).build())
+						.toList())
+				.streamings(LongStream.rangeClosed(1, associations)
+						.mapToObj(id -> Streaming.builder().id(id).name("Streaming " + id).build())
+						.toList())
+				.build();
+	}
+
+	/**
+	 * Página de filmes em que cada filme tem três categorias e dois streamings sorteados de um catálogo pequeno,
+	 * como acontece na listagem real.
+	 */
+	static List<Movie> moviePage(int size) {
+		Random random = new Random(42);
+		List<Category> categories = LongStream.rangeClosed(1, 20)
+				.mapToObj(id -> Category.builder().id(id).name("Categoria " + id).build())
+				.toList();
+		List<Streaming> streamings = LongStream.rangeClosed(1, 8)
+				.mapToObj(id -> Streaming.builder().id(id).name("Streaming " + id).build())
+				.toList();
+
+		return LongStream.rangeClosed(1, size)
+				.mapToObj(id -> Movie.builder()
+						.id(id)
+						.title("Filme " + id)
+						.description("Descrição do filme " + id + ", com elenco, direção e um resumo da história.")
+						.releaseDate(LocalDate.of(1970, 1, 1).plusDays(random.nextInt(20_000)))
+						.rating(random.nextInt(100) / 10.0)
+						.categories(random.ints(0, categories.size()).distinct().limit(3)
+								.mapToObj(categories::get)
+								.toList())
+						.streamings(random.ints(0, streamings.size()).distinct().limit(2)
+								.mapToObj(streamings::get)
+								.toList())
+						.build())
+				.toList();
+	}
+
+	static User user() {
+		return User.builder()
+				.id(1L)
+				.name("Teste User")
+				.email("teste@movieflix.com")
+				.password("senha123")
+				.build();
+	}
+
+}
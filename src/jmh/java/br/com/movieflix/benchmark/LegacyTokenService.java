@@ -0,0 +1,49 @@
+package br.com.movieflix.benchmark;
+
+import br.com.movieflix.config.JWTUserData;
+import br.com.movieflix.config.JwtKeySet;
+import br.com.movieflix.config.TokenService;
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.exceptions.JWTVerificationException;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Verificação sem cache, como era feita antes: recria o algoritmo e o verificador a cada token.
+ * Serve de linha de base para os benchmarks de token e do filtro de segurança.
+ */
+class LegacyTokenService extends TokenService {
+
+	private final String secret;
+
+	LegacyTokenService(String secret) {
+		super(JwtKeySet.hmac(secret), 1, Duration.ofMinutes(15), new SimpleMeterRegistry());
+		this.secret = secret;
+	}
+
+	@Override
+	public Optional<JWTUserData> verifyToken(String token) {
+		Algorithm algorithm = Algorithm.HMAC256(secret);
+
+		try {
+			DecodedJWT jwt = JWT.require(algorithm)
+					.build()
+					.verify(token);
+
+			return Optional.of(JWTUserData
+					.builder()
+					.id(jwt.getClaim("userId").asLong())
+					.name(jwt.getClaim("name").asString())
+					.email(jwt.getSubject())
+					.build());
+
+		} catch (JWTVerificationException ex) {
+			return Optional.empty();
+		}
+	}
+
+}
@@ -0,0 +1,51 @@
+package br.com.movieflix.benchmark;
+
+import br.com.movieflix.controller.request.MovieRequest;
+import br.com.movieflix.controller.response.MovieResponse;
+import br.com.movieflix.entity.Movie;
+import br.com.movieflix.mapper.MovieMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MovieMapperBenchmark {
+
+	@Param({"0", "5", "50"})
+	public int associations;
+
+	private MovieRequest request;
+	private Movie movie;
+
+	@Setup
+	public void setUp() {
+		request = BenchmarkData.movieRequest(associations);
+		movie = BenchmarkData.movie(associations);
+	}
+
+	@Benchmark
+	public Movie toMovie() {
+		return MovieMapper.toMovie(request);
+	}
+
+	@Benchmark
+	public MovieResponse toMovieResponse() {
+		return MovieMapper.toMovieResponse(movie);
+	}
+
+}
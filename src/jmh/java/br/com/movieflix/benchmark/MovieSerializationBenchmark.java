@@ -0,0 +1,82 @@
+package br.com.movieflix.benchmark;
+
+import br.com.movieflix.controller.response.MoviePageResponse;
+import br.com.movieflix.entity.Movie;
+import br.com.movieflix.mapper.MovieMapper;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Custo de CPU para serializar uma página de 100 filmes em cada formato. O tamanho do corpo,
+ * com e sem gzip, é impresso no início de cada combinação.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MovieSerializationBenchmark {
+
+	@Param({"json", "smile", "cbor"})
+	public String format;
+
+	@Param({"embedded", "sideloaded"})
+	public String shape;
+
+	private ObjectMapper mapper;
+	private Object page;
+
+	@Setup
+	public void setUp() throws IOException {
+		mapper = switch (format) {
+			case "smile" -> Jackson2ObjectMapperBuilder.json().factory(new SmileFactory()).build();
+			case "cbor" -> Jackson2ObjectMapperBuilder.json().factory(new CBORFactory()).build();
+			default -> Jackson2ObjectMapperBuilder.json().build();
+		};
+
+		List<Movie> movies = BenchmarkData.moviePage(100);
+		page = "sideloaded".equals(shape)
+				? MovieMapper.toSideloadedMoviePageResponse(movies, null)
+				: MoviePageResponse.builder()
+						.content(movies.stream().map(MovieMapper::toMovieResponse).toList())
+						.size(movies.size())
+						.build();
+
+		byte[] body = serialize();
+		System.out.printf("%n%s/%s: %d bytes, %d bytes com gzip%n", format, shape, body.length, gzip(body).length);
+	}
+
+	@Benchmark
+	public byte[] serialize() throws IOException {
+		return mapper.writeValueAsBytes(page);
+	}
+
+	private static byte[] gzip(byte[] body) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+			gzip.write(body);
+		}
+		return out.toByteArray();
+	}
+
+}
@@ -0,0 +1,66 @@
+package br.com.movieflix.benchmark;
+
+import br.com.movieflix.config.SecurityConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Logins por segundo em um núcleo (uma thread) para cada custo do bcrypt: o teto de throughput do /auth/login
+ * é aproximadamente este valor vezes movieflix.security.password.max-concurrent-hashes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 5)
+@Threads(1)
+@Fork(1)
+public class PasswordEncoderBenchmark {
+
+	private static final String PASSWORD = "s3nh4-d0-b3nchm4rk";
+
+	@Param({"8", "10", "12"})
+	private int strength;
+
+	private PasswordEncoder encoder;
+	private String hash;
+	private String legacyHash;
+
+	@Setup
+	public void setUp() {
+		encoder = SecurityConfig.delegatingPasswordEncoder(strength);
+		hash = encoder.encode(PASSWORD);
+		// Hash sem prefixo, como os gravados antes do DelegatingPasswordEncoder
+		legacyHash = new BCryptPasswordEncoder(strength).encode(PASSWORD);
+	}
+
+	@Benchmark
+	public boolean login() {
+		return encoder.matches(PASSWORD, hash);
+	}
+
+	@Benchmark
+	public boolean loginLegacyHash() {
+		return encoder.matches(PASSWORD, legacyHash);
+	}
+
+	@Benchmark
+	public String register() {
+		return encoder.encode(PASSWORD);
+	}
+
+}
@@ -0,0 +1,56 @@
+package br.com.movieflix.benchmark;
+
+import br.com.movieflix.controller.request.CategoryRequest;
+import br.com.movieflix.controller.request.StreamingRequest;
+import br.com.movieflix.controller.response.CategoryResponse;
+import br.com.movieflix.controller.response.StreamingResponse;
+import br.com.movieflix.entity.Category;
+import br.com.movieflix.entity.Streaming;
+import br.com.movieflix.mapper.CategoryMapper;
+import br.com.movieflix.mapper.StreamingMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReferenceMapperBenchmark {
+
+	private final CategoryRequest categoryRequest = CategoryRequest.builder().name("Drama").build();
+	private final Category category = Category.builder().id(1L).name("Drama").build();
+	private final StreamingRequest streamingRequest = StreamingRequest.builder().name("Netflix").build();
+	private final Streaming streaming = Streaming.builder().id(1L).name("Netflix").build();
+
+	@Benchmark
+	public Category toCategory() {
+		return CategoryMapper.toCategory(categoryRequest);
+	}
+
+	@Benchmark
+	public CategoryResponse toCategoryResponse() {
+		return CategoryMapper.toCategoryResponse(category);
+	}
+
+	@Benchmark
+	public Streaming toStreaming() {
+		return StreamingMapper.toStreaming(streamingRequest);
+	}
+
+	@Benchmark
+	public StreamingResponse toStreamingResponse() {
+		return StreamingMapper.toStreamingResponse(streaming);
+	}
+
+}
@@ -0,0 +1,71 @@
+package br.com.movieflix.benchmark;
+
+import br.com.movieflix.config.SecurityFilter;
+import br.com.movieflix.config.TokenService;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SecurityFilterBenchmark {
+
+	private static final FilterChain NO_OP_CHAIN = (request, response) -> { };
+
+	/**
+	 * "cached" usa o TokenService atual; "legacy" reproduz a verificação sem cache para comparação.
+	 */
+	@Param({"cached", "legacy"})
+	public String verification;
+
+	private SecurityFilter filter;
+	private String authorizationHeader;
+
+	@Setup
+	public void setUp() {
+		TokenService tokenService = "legacy".equals(verification)
+				? new LegacyTokenService(BenchmarkData.SECRET)
+				: BenchmarkData.tokenService();
+		filter = new SecurityFilter(tokenService, BenchmarkData.tokenRevocationList());
+		authorizationHeader = "Bearer " + tokenService.generateToken(BenchmarkData.user());
+	}
+
+	@Benchmark
+	public MockHttpServletResponse authenticatedRequest() throws Exception {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/movieflix/movie");
+		request.addHeader("Authorization", authorizationHeader);
+		MockHttpServletResponse response = new MockHttpServletResponse();
+
+		filter.doFilter(request, response, NO_OP_CHAIN);
+		SecurityContextHolder.clearContext();
+		return response;
+	}
+
+	@Benchmark
+	public MockHttpServletResponse anonymousRequest() throws Exception {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/movieflix/movie");
+		MockHttpServletResponse response = new MockHttpServletResponse();
+
+		filter.doFilter(request, response, NO_OP_CHAIN);
+		return response;
+	}
+
+}
@@ -0,0 +1,66 @@
+package br.com.movieflix.benchmark;
+
+import br.com.movieflix.config.JWTUserData;
+import br.com.movieflix.config.JwtAlgorithm;
+import br.com.movieflix.config.JwtKeySet;
+import br.com.movieflix.config.TokenService;
+import br.com.movieflix.entity.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TokenServiceBenchmark {
+
+	/**
+	 * HS256 é o caminho com segredo compartilhado; RS256 e ES256 verificam com as chaves públicas pré-carregadas.
+	 */
+	@Param({"HS256", "RS256", "ES256"})
+	public String algorithm;
+
+	private TokenService tokenService;
+	private TokenService uncachedTokenService;
+	private User user;
+	private String token;
+
+	@Setup
+	public void setUp() {
+		JwtKeySet keySet = BenchmarkData.keySet(JwtAlgorithm.valueOf(algorithm));
+		tokenService = BenchmarkData.tokenService(keySet, 10_000);
+		uncachedTokenService = BenchmarkData.tokenService(keySet, 0);
+		user = BenchmarkData.user();
+		token = tokenService.generateToken(user);
+	}
+
+	@Benchmark
+	public String generateToken() {
+		return tokenService.generateToken(user);
+	}
+
+	@Benchmark
+	public Optional<JWTUserData> verifyToken() {
+		return tokenService.verifyToken(token);
+	}
+
+	@Benchmark
+	public Optional<JWTUserData> verifyTokenWithoutCache() {
+		return uncachedTokenService.verifyToken(token);
+	}
+
+}
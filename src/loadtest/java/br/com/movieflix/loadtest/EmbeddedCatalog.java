@@ -0,0 +1,127 @@
+package br.com.movieflix.loadtest;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.flywaydb.core.Flyway;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Postgres embarcado para os testes de carga. O schema é criado pelas migrations do Flyway
+ * quando a aplicação sobe; o catálogo é gerado direto no banco com generate_series.
+ */
+final class EmbeddedCatalog implements AutoCloseable {
+
+	private final EmbeddedPostgres postgres;
+
+	private EmbeddedCatalog(EmbeddedPostgres postgres) {
+		this.postgres = postgres;
+	}
+
+	static EmbeddedCatalog start() throws IOException {
+		return new EmbeddedCatalog(EmbeddedPostgres.builder().start());
+	}
+
+	String jdbcUrl() {
+		return postgres.getJdbcUrl("postgres", "postgres");
+	}
+
+	Connection connection() throws SQLException {
+		return postgres.getPostgresDatabase().getConnection();
+	}
+
+	/**
+	 * Cria um segundo banco no mesmo servidor, com as migrations aplicadas, fazendo o papel de uma réplica.
+	 * Sem replicação real, ele só muda quando o teste escreve nele, o que permite simular o atraso.
+	 */
+	String createReplica(String name) throws SQLException {
+		try (Connection connection = connection();
+			 Statement statement = connection.createStatement()) {
+			statement.execute("CREATE DATABASE " + name);
+		}
+		Flyway.configure()
+				.dataSource(postgres.getDatabase("postgres", name))
+				.load()
+				.migrate();
+		return postgres.getJdbcUrl("postgres", name);
+	}
+
+	/**
+	 * Aplica as migrations sem subir a aplicação, para testes que usam apenas o banco.
+	 */
+	void migrate() {
+		Flyway.configure()
+				.dataSource(postgres.getPostgresDatabase())
+				.load()
+				.migrate();
+	}
+
+	void seedUsers(int users) throws SQLException {
+		try (Connection connection = connection()) {
+			execute(connection, """
+					INSERT INTO users (name, email, password)
+					SELECT 'Usuário ' || g, 'usuario' || g || '@movieflix.com', 'senha'
+					FROM generate_series(1, ?) g
+					""", users);
+			try (Statement statement = connection.createStatement()) {
+				statement.execute("ANALYZE users");
+			}
+		}
+	}
+
+	void seed(LoadTestSettings settings) throws SQLException {
+		try (Connection connection = connection()) {
+			connection.setAutoCommit(false);
+
+			execute(connection, "INSERT INTO category (name) SELECT 'Categoria ' || g FROM generate_series(1, ?) g",
+					settings.categories());
+			execute(connection, "INSERT INTO streaming (name) SELECT 'Streaming ' || g FROM generate_series(1, ?) g",
+					settings.streamings());
+			execute(connection, """
+					INSERT INTO movie (title, description, release_date, rating, created_at, updated_at)
+					SELECT 'Filme ' || g, 'Descrição do filme ' || g, DATE '1950-01-01' + (g % 27000), (g % 100) / 10.0, now(), now()
+					FROM generate_series(1, ?) g
+					""", settings.movies());
+			execute(connection, """
+					INSERT INTO movie_category (movie_id, category_id)
+					SELECT m.id, c.id
+					FROM movie m
+					CROSS JOIN generate_series(0, ? - 1) k
+					JOIN (SELECT id, row_number() OVER (ORDER BY id) - 1 AS position FROM category) c
+					  ON c.position = (m.id * 7 + k) % ?
+					""", settings.linksPerMovie(), settings.categories());
+			execute(connection, """
+					INSERT INTO movie_streaming (movie_id, streaming_id)
+					SELECT m.id, s.id
+					FROM movie m
+					CROSS JOIN generate_series(0, ? - 1) k
+					JOIN (SELECT id, row_number() OVER (ORDER BY id) - 1 AS position FROM streaming) s
+					  ON s.position = (m.id * 3 + k) % ?
+					""", settings.linksPerMovie(), settings.streamings());
+
+			connection.commit();
+			connection.setAutoCommit(true);
+			try (Statement statement = connection.createStatement()) {
+				statement.execute("ANALYZE");
+			}
+		}
+	}
+
+	@Override
+	public void close() throws IOException {
+		postgres.close();
+	}
+
+	private static void execute(Connection connection, String sql, int... parameters) throws SQLException {
+		try (PreparedStatement statement = connection.prepareStatement(sql)) {
+			for (int i = 0; i < parameters.length; i++) {
+				statement.setInt(i + 1, parameters[i]);
+			}
+			statement.executeUpdate();
+		}
+	}
+
+}
@@ -0,0 +1,114 @@
+package br.com.movieflix.loadtest;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifica, via EXPLAIN, que as consultas quentes usam os índices da migration V7 em um catálogo de 1 milhão de filmes.
+ * Executar com: ./mvnw -Ploadtest test -Dtest=IndexUsageTests
+ */
+class IndexUsageTests {
+
+	private static final int ROWS = 1_000_000;
+
+	private static EmbeddedCatalog catalog;
+
+	@BeforeAll
+	static void seedCatalog() throws Exception {
+		catalog = EmbeddedCatalog.start();
+		catalog.migrate();
+		catalog.seed(new LoadTestSettings(ROWS, 1_000, 100, 3, 1, 0, false, 0, false, Duration.ZERO, Duration.ZERO, 0, 0));
+		catalog.seedUsers(ROWS);
+	}
+
+	@AfterAll
+	static void stopCatalog() throws Exception {
+		catalog.close();
+	}
+
+	@Test
+	void findMovieByCategoriesUsesJoinTableIndex() throws Exception {
+		String plan = explain("""
+				SELECT m.* FROM movie m
+				JOIN movie_category mc ON mc.movie_id = m.id
+				WHERE mc.category_id IN (42)
+				""");
+
+		assertThat(plan).contains("idx_movie_category_category").doesNotContain("Seq Scan");
+	}
+
+	@Test
+	void loginLookupUsesUniqueEmailIndex() throws Exception {
+		String plan = explain("SELECT * FROM users WHERE email = 'usuario500000@movieflix.com'");
+
+		assertThat(plan).contains("Index Scan using idx_users_email").doesNotContain("Seq Scan");
+	}
+
+	@Test
+	void ratingPageUsesKeysetIndex() throws Exception {
+		String plan = explain("""
+				SELECT * FROM movie
+				WHERE rating < 5.0 OR (rating = 5.0 AND id > 500000)
+				ORDER BY rating DESC, id ASC
+				LIMIT 21
+				""");
+
+		assertThat(plan).contains("idx_movie_rating").doesNotContain("Seq Scan");
+	}
+
+	@Test
+	void releaseDatePageUsesKeysetIndex() throws Exception {
+		String plan = explain("""
+				SELECT * FROM movie
+				WHERE release_date IS NOT NULL
+				ORDER BY release_date DESC NULLS LAST, id ASC
+				LIMIT 21
+				""");
+
+		assertThat(plan).contains("idx_movie_release_date").doesNotContain("Seq Scan");
+	}
+
+	@Test
+	void releaseDateSearchUsesKeysetIndex() throws Exception {
+		String plan = explain("""
+				SELECT * FROM movie
+				ORDER BY release_date DESC NULLS LAST, id ASC
+				OFFSET 40 LIMIT 21
+				""");
+
+		assertThat(plan).contains("idx_movie_release_date").doesNotContain("Sort");
+	}
+
+	@Test
+	void textSearchUsesGinIndex() throws Exception {
+		String plan = explain("""
+				SELECT * FROM movie
+				WHERE search_vector @@ to_tsquery('simple', '123456:*')
+				ORDER BY ts_rank(search_vector, to_tsquery('simple', '123456:*')) DESC, id
+				LIMIT 21
+				""");
+
+		assertThat(plan).contains("idx_movie_search_vector").doesNotContain("Seq Scan");
+	}
+
+	private static String explain(String sql) throws Exception {
+		StringBuilder plan = new StringBuilder();
+		try (Connection connection = catalog.connection();
+			 PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql);
+			 ResultSet resultSet = statement.executeQuery()) {
+			while (resultSet.next()) {
+				plan.append(resultSet.getString(1)).append('\n');
+			}
+		}
+		return plan.toString();
+	}
+
+}
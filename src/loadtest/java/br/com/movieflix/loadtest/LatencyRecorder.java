@@ -0,0 +1,73 @@
+package br.com.movieflix.loadtest;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Latências de um único cliente, agrupadas por endpoint. Cada cliente tem o seu recorder
+ * (sem sincronização no caminho quente) e os resultados são combinados ao final com {@link #merge}.
+ */
+final class LatencyRecorder {
+
+	private final Map<String, Samples> samples = new TreeMap<>();
+
+	void record(String endpoint, long latencyNanos, boolean success) {
+		samples.computeIfAbsent(endpoint, key -> new Samples()).add(latencyNanos, success);
+	}
+
+	void merge(LatencyRecorder other) {
+		other.samples.forEach((endpoint, otherSamples) ->
+				samples.computeIfAbsent(endpoint, key -> new Samples()).addAll(otherSamples));
+	}
+
+	Map<String, Summary> summarize(double elapsedSeconds) {
+		Map<String, Summary> summaries = new TreeMap<>();
+		samples.forEach((endpoint, endpointSamples) -> summaries.put(endpoint, endpointSamples.summarize(elapsedSeconds)));
+		return summaries;
+	}
+
+	record Summary(long requests, long errors, double throughput, double p50Millis, double p95Millis, double p99Millis, double maxMillis) {
+	}
+
+	private static final class Samples {
+
+		private long[] latencies = new long[1024];
+		private int size;
+		private long errors;
+
+		void add(long latencyNanos, boolean success) {
+			if (size == latencies.length) {
+				latencies = Arrays.copyOf(latencies, size * 2);
+			}
+			latencies[size++] = latencyNanos;
+			if (!success) {
+				errors++;
+			}
+		}
+
+		void addAll(Samples other) {
+			for (int i = 0; i < other.size; i++) {
+				add(other.latencies[i], true);
+			}
+			errors += other.errors;
+		}
+
+		Summary summarize(double elapsedSeconds) {
+			long[] sorted = Arrays.copyOf(latencies, size);
+			Arrays.sort(sorted);
+			return new Summary(size, errors, size / elapsedSeconds,
+					percentile(sorted, 0.50), percentile(sorted, 0.95), percentile(sorted, 0.99),
+					sorted.length == 0 ? 0 : sorted[sorted.length - 1] / 1_000_000.0);
+		}
+
+		private static double percentile(long[] sorted, double percentile) {
+			if (sorted.length == 0) {
+				return 0;
+			}
+			int index = (int) Math.ceil(percentile * sorted.length) - 1;
+			return sorted[Math.max(index, 0)] / 1_000_000.0;
+		}
+	}
+
+}
@@ -0,0 +1,266 @@
+package br.com.movieflix.loadtest;
+
+import br.com.movieflix.MovieflixApplication;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+
+/**
+ * Teste de carga ponta a ponta: sobe um Postgres embarcado, inicia a aplicação apontando para ele,
+ * gera o catálogo e dispara clientes autenticados concorrentes contra a API REST, reportando
+ * throughput e latências p50/p95/p99 por endpoint.
+ *
+ * <p>Falha (exceção) quando algum endpoint estoura o orçamento de p99 configurado em -Dloadtest.budget.*.</p>
+ */
+public final class LoadTest {
+
+	private static final String EMAIL = "loadtest@movieflix.com";
+	private static final String PASSWORD = "loadtest";
+	private static final String[] SORTS = {"ID", "RATING", "RELEASE_DATE"};
+	private static final Duration LOGIN_TIMEOUT = Duration.ofMinutes(2);
+
+	private final LoadTestSettings settings;
+	private final URI baseUri;
+	private final HttpClient httpClient;
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final List<Scenario> scenarios;
+	private final int totalWeight;
+
+	private LoadTest(LoadTestSettings settings, URI baseUri) {
+		this.settings = settings;
+		this.baseUri = baseUri;
+		this.httpClient = HttpClient.newBuilder()
+				.version(HttpClient.Version.HTTP_1_1)
+				.connectTimeout(Duration.ofSeconds(5))
+				.build();
+		this.scenarios = scenarios();
+		this.totalWeight = scenarios.stream().mapToInt(Scenario::weight).sum();
+	}
+
+	public static void main(String[] args) throws Exception {
+		LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+
+		try (EmbeddedCatalog catalog = EmbeddedCatalog.start();
+			 ConfigurableApplicationContext context = startApplication(catalog, settings)) {
+
+			long seedStart = System.nanoTime();
+			catalog.seed(settings);
+			System.out.printf("Catálogo gerado: %d filmes, %d categorias, %d streamings em %.1fs%n",
+					settings.movies(), settings.categories(), settings.streamings(), (System.nanoTime() - seedStart) / 1e9);
+
+			int port = context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+			LoadTest loadTest = new LoadTest(settings, URI.create("http://localhost:" + port));
+			Map<String, LatencyRecorder.Summary> results = loadTest.run();
+
+			print(results);
+			checkBudgets(settings, results);
+		}
+	}
+
+	private static ConfigurableApplicationContext startApplication(EmbeddedCatalog catalog, LoadTestSettings settings) {
+		List<String> args = new ArrayList<>(List.of(
+				"--server.port=0",
+				"--management.server.port=0",
+				"--spring.datasource.url=" + catalog.jdbcUrl(),
+				"--spring.datasource.username=postgres",
+				"--spring.datasource.password=postgres",
+				"--spring.jpa.show-sql=false",
+				"--spring.jpa.properties.hibernate.cache.use_second_level_cache=" + settings.secondLevelCache(),
+				// Todos os clientes usam o mesmo usuário: com o limite ligado o teste mede os 429, não a aplicação
+				"--movieflix.rate-limit.enabled=" + settings.rateLimit()));
+		// Sem replicação no Postgres embarcado, as "réplicas" são pools apontando para o mesmo banco: exercita o roteamento, não o atraso
+		for (int i = 0; i < settings.replicas(); i++) {
+			args.add("--movieflix.datasource.replicas[" + i + "].url=" + catalog.jdbcUrl());
+			args.add("--movieflix.datasource.replicas[" + i + "].username=postgres");
+			args.add("--movieflix.datasource.replicas[" + i + "].password=postgres");
+		}
+		args.addAll(applicationArgs());
+
+		SpringApplicationBuilder application = new SpringApplicationBuilder(MovieflixApplication.class);
+		if (settings.dbLatencyMillis() > 0) {
+			application.initializers(new SlowDatabase(settings.dbLatencyMillis()));
+		}
+		return application.run(args.toArray(String[]::new));
+	}
+
+	/**
+	 * Argumentos extras para a aplicação, separados por vírgula (-Dloadtest.app-args=--chave=valor,...).
+	 */
+	private static List<String> applicationArgs() {
+		String appArgs = System.getProperty("loadtest.app-args", "");
+		return appArgs.isBlank() ? List.of() : List.of(appArgs.split(","));
+	}
+
+	private Map<String, LatencyRecorder.Summary> run() throws Exception {
+		register();
+
+		// Clientes em virtual threads, para que o gerador de carga não seja o gargalo com milhares de clientes
+		ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+		long measureStart = System.nanoTime() + settings.warmup().toNanos();
+		long measureEnd = measureStart + settings.duration().toNanos();
+
+		try {
+			List<Future<LatencyRecorder>> clients = new ArrayList<>();
+			for (int i = 0; i < settings.clients(); i++) {
+				clients.add(executor.submit(() -> runClient(measureStart, measureEnd)));
+			}
+
+			LatencyRecorder total = new LatencyRecorder();
+			for (Future<LatencyRecorder> client : clients) {
+				total.merge(client.get());
+			}
+			return total.summarize(settings.duration().toNanos() / 1e9);
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private LatencyRecorder runClient(long measureStart, long measureEnd) throws Exception {
+		LatencyRecorder recorder = new LatencyRecorder();
+		String token = login();
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+
+		while (System.nanoTime() < measureEnd) {
+			Scenario scenario = pick(random.nextInt(totalWeight));
+			HttpRequest request = scenario.request().apply(random);
+			if (scenario.authenticated()) {
+				request = HttpRequest.newBuilder(request, (name, value) -> true)
+						.header("Authorization", "Bearer " + token)
+						.build();
+			}
+
+			long start = System.nanoTime();
+			boolean success;
+			try {
+				HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+				success = response.statusCode() / 100 == 2;
+			} catch (IOException ex) {
+				success = false;
+			}
+			long end = System.nanoTime();
+
+			if (start >= measureStart) {
+				recorder.record(scenario.name(), end - start, success);
+			}
+		}
+		return recorder;
+	}
+
+	private Scenario pick(int roll) {
+		for (Scenario scenario : scenarios) {
+			roll -= scenario.weight();
+			if (roll < 0) {
+				return scenario;
+			}
+		}
+		return scenarios.get(scenarios.size() - 1);
+	}
+
+	private List<Scenario> scenarios() {
+		return List.of(
+				new Scenario("movie.page", 30, true, random ->
+						get("/movieflix/movie?size=20&sort=" + SORTS[random.nextInt(SORTS.length)])),
+				new Scenario("movie.byId", 15, true, random ->
+						get("/movieflix/movie/" + (1 + random.nextInt(settings.movies())))),
+				// Poucos títulos muito acessados: mostra o efeito do cache de segundo nível (-Dloadtest.l2-cache)
+				new Scenario("movie.byId.hot", 10, true, random ->
+						get("/movieflix/movie/" + (1 + random.nextInt(Math.min(settings.hotMovies(), settings.movies()))))),
+				new Scenario("movie.search", 10, true, random ->
+						get("/movieflix/movie/search?category=" + (1 + random.nextInt(settings.categories())))),
+				new Scenario("category.list", 15, true, random -> get("/movieflix/category")),
+				new Scenario("streaming.list", 15, true, random -> get("/movieflix/streaming")),
+				new Scenario("auth.login", 5, false, random -> loginRequest())
+		);
+	}
+
+	private void register() throws Exception {
+		String body = objectMapper.writeValueAsString(Map.of("name", "Load Test", "email", EMAIL, "password", PASSWORD));
+		HttpResponse<String> response = httpClient.send(post("/movieflix/auth/register", body), HttpResponse.BodyHandlers.ofString());
+		if (response.statusCode() != 201) {
+			throw new IllegalStateException("Falha ao registrar usuário do teste de carga: " + response.statusCode());
+		}
+	}
+
+	/**
+	 * Todos os clientes fazem login ao mesmo tempo; além da fila de hashes de senha a aplicação responde 503 com
+	 * Retry-After, e o cliente tenta de novo como faria um cliente real.
+	 */
+	private String login() throws Exception {
+		long deadline = System.nanoTime() + LOGIN_TIMEOUT.toNanos();
+		while (true) {
+			HttpResponse<String> response = httpClient.send(loginRequest(), HttpResponse.BodyHandlers.ofString());
+			if (response.statusCode() == 200) {
+				return objectMapper.readTree(response.body()).get("token").asText();
+			}
+			if (response.statusCode() != 503 || System.nanoTime() > deadline) {
+				throw new IllegalStateException("Falha no login do teste de carga: " + response.statusCode());
+			}
+			long retryAfterSeconds = response.headers().firstValueAsLong("Retry-After").orElse(1);
+			Thread.sleep(retryAfterSeconds * 1000 + ThreadLocalRandom.current().nextInt(1000));
+		}
+	}
+
+	private HttpRequest loginRequest() {
+		try {
+			return post("/movieflix/auth/login", objectMapper.writeValueAsString(Map.of("email", EMAIL, "password", PASSWORD)));
+		} catch (JsonProcessingException ex) {
+			throw new IllegalStateException(ex);
+		}
+	}
+
+	private HttpRequest get(String path) {
+		return HttpRequest.newBuilder(baseUri.resolve(path)).GET().build();
+	}
+
+	private HttpRequest post(String path, String json) {
+		return HttpRequest.newBuilder(baseUri.resolve(path))
+				.header("Content-Type", "application/json")
+				.POST(HttpRequest.BodyPublishers.ofString(json))
+				.build();
+	}
+
+	private static void print(Map<String, LatencyRecorder.Summary> results) {
+		System.out.printf("%n%-16s %9s %7s %10s %9s %9s %9s %9s%n",
+				"endpoint", "requests", "errors", "req/s", "p50(ms)", "p95(ms)", "p99(ms)", "max(ms)");
+		results.forEach((endpoint, summary) -> System.out.printf("%-16s %9d %7d %10.1f %9.2f %9.2f %9.2f %9.2f%n",
+				endpoint, summary.requests(), summary.errors(), summary.throughput(),
+				summary.p50Millis(), summary.p95Millis(), summary.p99Millis(), summary.maxMillis()));
+	}
+
+	private static void checkBudgets(LoadTestSettings settings, Map<String, LatencyRecorder.Summary> results) {
+		List<String> violations = new ArrayList<>();
+		results.forEach((endpoint, summary) -> {
+			long budget = settings.p99BudgetMillis(endpoint);
+			if (budget > 0 && summary.p99Millis() > budget) {
+				violations.add("%s: p99 %.2fms > %dms".formatted(endpoint, summary.p99Millis(), budget));
+			}
+			if (summary.errors() > 0) {
+				violations.add("%s: %d erros".formatted(endpoint, summary.errors()));
+			}
+		});
+
+		if (!violations.isEmpty()) {
+			throw new IllegalStateException("Orçamento de latência violado: " + violations);
+		}
+	}
+
+	private record Scenario(String name, int weight, boolean authenticated, Function<ThreadLocalRandom, HttpRequest> request) {
+	}
+
+}
@@ -0,0 +1,51 @@
+package br.com.movieflix.loadtest;
+
+import java.time.Duration;
+
+/**
+ * Parâmetros do teste de carga, lidos de propriedades de sistema (-Dloadtest.*).
+ */
+record LoadTestSettings(int movies,
+						int categories,
+						int streamings,
+						int linksPerMovie,
+						int clients,
+						int hotMovies,
+						boolean secondLevelCache,
+						int replicas,
+						boolean rateLimit,
+						Duration warmup,
+						Duration duration,
+						long dbLatencyMillis,
+						long p99BudgetMillis) {
+
+	static LoadTestSettings fromSystemProperties() {
+		LoadTestSettings settings = new LoadTestSettings(
+				Integer.getInteger("loadtest.movies", 100_000),
+				Integer.getInteger("loadtest.categories", 20),
+				Integer.getInteger("loadtest.streamings", 10),
+				Integer.getInteger("loadtest.links-per-movie", 3),
+				Integer.getInteger("loadtest.clients", 32),
+				Integer.getInteger("loadtest.hot-movies", 100),
+				Boolean.parseBoolean(System.getProperty("loadtest.l2-cache", "true")),
+				Integer.getInteger("loadtest.replicas", 0),
+				Boolean.getBoolean("loadtest.rate-limit"),
+				Duration.ofSeconds(Long.getLong("loadtest.warmup-seconds", 10)),
+				Duration.ofSeconds(Long.getLong("loadtest.duration-seconds", 60)),
+				Long.getLong("loadtest.db-latency-ms", 0),
+				Long.getLong("loadtest.budget.p99-ms", 0));
+
+		if (settings.linksPerMovie() > Math.min(settings.categories(), settings.streamings())) {
+			throw new IllegalArgumentException("loadtest.links-per-movie deve ser menor ou igual ao número de categorias e streamings");
+		}
+		return settings;
+	}
+
+	/**
+	 * Orçamento de p99 do endpoint (-Dloadtest.budget.movie.page.p99-ms=150), ou o global. Zero desativa a verificação.
+	 */
+	long p99BudgetMillis(String endpoint) {
+		return Long.getLong("loadtest.budget." + endpoint + ".p99-ms", p99BudgetMillis);
+	}
+
+}
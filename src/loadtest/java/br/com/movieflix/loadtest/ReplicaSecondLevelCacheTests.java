@@ -0,0 +1,105 @@
+package br.com.movieflix.loadtest;
+
+import br.com.movieflix.MovieflixApplication;
+import br.com.movieflix.entity.Category;
+import br.com.movieflix.entity.Movie;
+import br.com.movieflix.service.MovieService;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Sobe a aplicação com uma "réplica" que só recebe as escritas quando o teste as aplica, e confere que uma leitura
+ * atrasada feita logo depois de uma alteração não fica no cache de segundo nível.
+ * Executar com: ./mvnw -Ploadtest test -Dtest=ReplicaSecondLevelCacheTests
+ */
+class ReplicaSecondLevelCacheTests {
+
+	private static final String SEED = """
+			INSERT INTO category (id, name) VALUES (1, 'Ação'), (2, 'Drama');
+			INSERT INTO movie (id, title, description, release_date, rating, created_at, updated_at)
+			VALUES (1, 'Filme', 'Descrição', DATE '2020-01-01', 7.5, now(), now());
+			INSERT INTO movie_category (movie_id, category_id) VALUES (1, 1);
+			""";
+
+	private static EmbeddedCatalog catalog;
+	private static String replicaUrl;
+	private static ConfigurableApplicationContext context;
+
+	@BeforeAll
+	static void startApplication() throws Exception {
+		catalog = EmbeddedCatalog.start();
+		replicaUrl = catalog.createReplica("replica");
+		context = new SpringApplicationBuilder(MovieflixApplication.class).run(
+				"--server.port=0",
+				"--management.server.port=0",
+				"--spring.datasource.url=" + catalog.jdbcUrl(),
+				"--spring.datasource.username=postgres",
+				"--spring.datasource.password=postgres",
+				"--movieflix.datasource.replicas[0].url=" + replicaUrl,
+				"--movieflix.datasource.lag-check-interval=PT1H");
+		execute(catalog.jdbcUrl(), SEED);
+		execute(replicaUrl, SEED);
+	}
+
+	@AfterAll
+	static void stopApplication() throws Exception {
+		context.close();
+		catalog.close();
+	}
+
+	@Test
+	void readFromLaggingReplicaAfterUpdateIsNotCached() throws Exception {
+		MovieService movieService = context.getBean(MovieService.class);
+		TransactionTemplate readOnly = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+		readOnly.setReadOnly(true);
+
+		movieService.update(1L, Movie.builder()
+				.title("Filme")
+				.description("Descrição")
+				.releaseDate(LocalDate.of(2020, 1, 1))
+				.rating(7.5)
+				.categories(List.of(Category.builder().id(2L).build()))
+				.streamings(List.of())
+				.build());
+
+		// A réplica ainda não recebeu a alteração
+		List<String> beforeReplication = readOnly.execute(status -> categoryNames(movieService));
+		assertThat(beforeReplication).containsExactly("Ação");
+
+		execute(replicaUrl, "UPDATE movie_category SET category_id = 2 WHERE movie_id = 1");
+
+		List<String> afterReplication = readOnly.execute(status -> categoryNames(movieService));
+		assertThat(afterReplication).containsExactly("Drama");
+	}
+
+	private static List<String> categoryNames(MovieService movieService) {
+		return movieService.findMovieById(1L)
+				.orElseThrow()
+				.getCategories()
+				.stream()
+				.map(Category::getName)
+				.toList();
+	}
+
+	private static void execute(String url, String sql) throws SQLException {
+		try (Connection connection = DriverManager.getConnection(url);
+			 Statement statement = connection.createStatement()) {
+			statement.execute(sql);
+		}
+	}
+
+}
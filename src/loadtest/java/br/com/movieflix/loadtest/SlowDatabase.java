@@ -0,0 +1,91 @@
+package br.com.movieflix.loadtest;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.ApplicationContextInitializer;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Simula um banco lento adicionando uma latência fixa a cada execução de statement.
+ * Usado para comparar o modelo de threads da aplicação quando o gargalo é a espera pelo banco.
+ */
+final class SlowDatabase implements ApplicationContextInitializer<ConfigurableApplicationContext> {
+
+	private final long latencyMillis;
+
+	SlowDatabase(long latencyMillis) {
+		this.latencyMillis = latencyMillis;
+	}
+
+	@Override
+	public void initialize(ConfigurableApplicationContext context) {
+		context.getBeanFactory().addBeanPostProcessor(new BeanPostProcessor() {
+			@Override
+			public Object postProcessAfterInitialization(Object bean, String beanName) {
+				// Apenas o datasource usado pela aplicação: com réplicas ele já envolve o primário e as réplicas
+				return bean instanceof DataSource dataSource && beanName.equals("dataSource") ? new SlowDataSource(dataSource) : bean;
+			}
+		});
+	}
+
+	private final class SlowDataSource extends DelegatingDataSource {
+
+		SlowDataSource(DataSource target) {
+			super(target);
+		}
+
+		@Override
+		public Connection getConnection() throws SQLException {
+			return slowConnection(super.getConnection());
+		}
+
+		@Override
+		public Connection getConnection(String username, String password) throws SQLException {
+			return slowConnection(super.getConnection(username, password));
+		}
+	}
+
+	private Connection slowConnection(Connection connection) {
+		return proxy(Connection.class, connection, (proxy, method, args) -> {
+			Object result = invoke(connection, method, args);
+			return result instanceof Statement statement ? slowStatement(statement) : result;
+		});
+	}
+
+	private Statement slowStatement(Statement statement) {
+		Class<?> type = statement instanceof CallableStatement ? CallableStatement.class
+				: statement instanceof PreparedStatement ? PreparedStatement.class
+				: Statement.class;
+		return (Statement) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+			if (method.getName().startsWith("execute")) {
+				Thread.sleep(latencyMillis);
+			}
+			return invoke(statement, method, args);
+		});
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T> T proxy(Class<T> type, T target, InvocationHandler handler) {
+		return (T) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{type}, handler);
+	}
+
+	private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+		try {
+			return method.invoke(target, args);
+		} catch (InvocationTargetException ex) {
+			throw ex.getTargetException();
+		}
+	}
+
+}
@@ -1,7 +1,15 @@
 package br.com.movieflix.config;
 
+import br.com.movieflix.exception.EmailAlreadyRegisteredException;
+import br.com.movieflix.exception.InvalidCursorException;
+import br.com.movieflix.exception.InvalidPageException;
+import br.com.movieflix.exception.InvalidRefreshTokenException;
+import br.com.movieflix.exception.PasswordHashingBusyException;
+import br.com.movieflix.exception.UnknownReferenceException;
 import br.com.movieflix.exception.UsernameOrPasswordInvalidException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -21,6 +29,43 @@ public class ApplicationControllerAdvice {
         return ex.getMessage();
     }
 
+    @ExceptionHandler(InvalidCursorException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public String handleInvalidCursorException(InvalidCursorException ex){
+        return ex.getMessage();
+    }
+
+    @ExceptionHandler(InvalidPageException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public String handleInvalidPageException(InvalidPageException ex){
+        return ex.getMessage();
+    }
+
+    @ExceptionHandler(UnknownReferenceException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public String handleUnknownReferenceException(UnknownReferenceException ex){
+        return ex.getMessage();
+    }
+
+    @ExceptionHandler(EmailAlreadyRegisteredException.class)
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public String handleEmailAlreadyRegisteredException(EmailAlreadyRegisteredException ex){
+        return ex.getMessage();
+    }
+
+    @ExceptionHandler(InvalidRefreshTokenException.class)
+    @ResponseStatus(HttpStatus.UNAUTHORIZED)
+    public String handleInvalidRefreshTokenException(InvalidRefreshTokenException ex){
+        return ex.getMessage();
+    }
+
+    @ExceptionHandler(PasswordHashingBusyException.class)
+    public ResponseEntity<String> handlePasswordHashingBusyException(PasswordHashingBusyException ex){
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(ex.getMessage());
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     public Map<String, String> handleMethodArgumentNotValidException(MethodArgumentNotValidException ex){
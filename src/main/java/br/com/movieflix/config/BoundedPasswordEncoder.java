@@ -0,0 +1,111 @@
+package br.com.movieflix.config;
+
+import br.com.movieflix.exception.PasswordHashingBusyException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Limita quantos hashes de senha rodam ao mesmo tempo. O bcrypt ocupa a CPU por dezenas de milissegundos;
+ * sem limite, uma rajada de logins disputa os núcleos com as requisições do catálogo.
+ *
+ * <p>A espera por vaga também prende a thread do Tomcat, então é curta e limitada: no máximo {@code maxWaiting}
+ * requisições esperam, por até {@code acquireTimeout}; as demais, e as que não conseguem vaga a tempo, recebem
+ * {@link PasswordHashingBusyException} (503) na hora.</p>
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder {
+
+    private final PasswordEncoder delegate;
+    private final Semaphore permits;
+    private final int maxConcurrent;
+    private final int maxWaiting;
+    private final AtomicInteger waiting = new AtomicInteger();
+    private final long acquireTimeoutNanos;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Counter rejected;
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate, int maxConcurrent, int maxWaiting, Duration acquireTimeout,
+                                  MeterRegistry meterRegistry){
+        this.delegate = delegate;
+        this.maxConcurrent = maxConcurrent;
+        this.maxWaiting = maxWaiting;
+        this.permits = new Semaphore(maxConcurrent, true);
+        this.acquireTimeoutNanos = acquireTimeout.toNanos();
+        this.encodeTimer = hashTimer(meterRegistry, "encode");
+        this.matchesTimer = hashTimer(meterRegistry, "matches");
+        this.rejected = Counter.builder("movieflix.password.rejected")
+                .description("Operações de hash recusadas por falta de vaga")
+                .register(meterRegistry);
+        Gauge.builder("movieflix.password.active", permits, semaphore -> maxConcurrent - semaphore.availablePermits())
+                .description("Hashes de senha em andamento")
+                .register(meterRegistry);
+        Gauge.builder("movieflix.password.waiting", waiting, AtomicInteger::get)
+                .description("Hashes de senha aguardando uma vaga")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return bounded(encodeTimer, () -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return bounded(matchesTimer, () -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        // Apenas lê o prefixo e o custo do hash, não precisa de vaga
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    public int maxConcurrent(){
+        return maxConcurrent;
+    }
+
+    private <T> T bounded(Timer timer, Supplier<T> hashing){
+        if (!permits.tryAcquire() && !this.awaitPermit()) {
+            rejected.increment();
+            throw new PasswordHashingBusyException("Servidor ocupado, tente novamente em instantes");
+        }
+
+        try {
+            return timer.record(hashing);
+        } finally {
+            permits.release();
+        }
+    }
+
+    private boolean awaitPermit(){
+        if (waiting.incrementAndGet() > maxWaiting) {
+            waiting.decrementAndGet();
+            return false;
+        }
+        try {
+            return permits.tryAcquire(acquireTimeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        } finally {
+            waiting.decrementAndGet();
+        }
+    }
+
+    private static Timer hashTimer(MeterRegistry meterRegistry, String operation){
+        return Timer.builder("movieflix.password.hash")
+                .description("Tempo de hash e verificação de senhas, sem a espera por vaga")
+                .tag("operation", operation)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,15 @@
+package br.com.movieflix.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String CATEGORIES = "categories";
+    public static final String CATEGORY_LIST = "categoryList";
+    public static final String STREAMINGS = "streamings";
+    public static final String STREAMING_LIST = "streamingList";
+
+}
@@ -2,6 +2,9 @@ package br.com.movieflix.config;
 
 import lombok.Builder;
 
+import java.time.Instant;
+import java.util.UUID;
+
 @Builder
-public record JWTUserData(Long id, String name, String email) {
+public record JWTUserData(Long id, String name, String email, UUID jti, Instant expiresAt) {
 }
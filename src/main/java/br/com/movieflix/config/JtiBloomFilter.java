@@ -0,0 +1,64 @@
+package br.com.movieflix.config;
+
+import java.util.UUID;
+
+/**
+ * Bloom filter de jtis (UUID) de tamanho fixo. Os dois longs do UUID aleatório já são uniformes,
+ * então as k posições saem de hashing duplo sobre eles, sem calcular hash algum.
+ * Não é thread-safe: {@link #add} só deve ser chamado antes de o filtro ser publicado para outras threads.
+ * Para incluir um jti em um filtro já publicado, adicione a uma {@link #copy()} e publique a cópia
+ * (ver {@link TokenRevocationList}).
+ */
+final class JtiBloomFilter {
+
+    private final long[] bits;
+    private final int bitCount;
+    private final int hashCount;
+
+    JtiBloomFilter(int expectedInsertions, double falsePositiveRate){
+        int expected = Math.max(expectedInsertions, 1);
+        long optimalBits = (long) Math.ceil(-expected * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        this.bitCount = (int) Math.min(Math.max(optimalBits, 64), Integer.MAX_VALUE - 63);
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expected * Math.log(2)));
+        this.bits = new long[(bitCount + 63) / 64];
+    }
+
+    private JtiBloomFilter(JtiBloomFilter other){
+        this.bits = other.bits.clone();
+        this.bitCount = other.bitCount;
+        this.hashCount = other.hashCount;
+    }
+
+    JtiBloomFilter copy(){
+        return new JtiBloomFilter(this);
+    }
+
+    void add(UUID jti){
+        long h1 = jti.getMostSignificantBits();
+        long h2 = jti.getLeastSignificantBits();
+        for (int i = 0; i < hashCount; i++) {
+            int index = index(h1, h2, i);
+            bits[index >>> 6] |= 1L << index;
+        }
+    }
+
+    boolean mightContain(UUID jti){
+        long h1 = jti.getMostSignificantBits();
+        long h2 = jti.getLeastSignificantBits();
+        for (int i = 0; i < hashCount; i++) {
+            int index = index(h1, h2, i);
+            if ((bits[index >>> 6] & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    long sizeInBytes(){
+        return (long) bits.length * Long.BYTES;
+    }
+
+    private int index(long h1, long h2, int i){
+        return (int) Math.floorMod(h1 + i * h2, (long) bitCount);
+    }
+}
@@ -0,0 +1,78 @@
+package br.com.movieflix.config;
+
+import com.auth0.jwt.algorithms.Algorithm;
+
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.interfaces.ECPrivateKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.security.spec.InvalidKeySpecException;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+
+/**
+ * Algoritmos de assinatura aceitos para os tokens. HS256 usa o segredo compartilhado (movieflix.security.secret);
+ * RS256 e ES256 assinam com a chave privada e verificam só com a pública, que é publicada no JWKS.
+ */
+public enum JwtAlgorithm {
+
+    HS256(null),
+    RS256("RSA"),
+    ES256("EC");
+
+    private final String keyType;
+
+    JwtAlgorithm(String keyType){
+        this.keyType = keyType;
+    }
+
+    public boolean isAsymmetric(){
+        return keyType != null;
+    }
+
+    Algorithm algorithm(PublicKey publicKey, PrivateKey privateKey){
+        return switch (this) {
+            case RS256 -> Algorithm.RSA256((RSAPublicKey) publicKey, (RSAPrivateKey) privateKey);
+            case ES256 -> Algorithm.ECDSA256((ECPublicKey) publicKey, (ECPrivateKey) privateKey);
+            case HS256 -> throw new IllegalStateException("HS256 não usa par de chaves");
+        };
+    }
+
+    KeyPair generateKeyPair(){
+        try {
+            KeyPairGenerator generator = KeyPairGenerator.getInstance(keyType);
+            if (this == ES256) {
+                generator.initialize(new ECGenParameterSpec("secp256r1"));
+            } else {
+                generator.initialize(2048);
+            }
+            return generator.generateKeyPair();
+        } catch (GeneralSecurityException ex) {
+            throw new IllegalStateException("Não foi possível gerar a chave " + this, ex);
+        }
+    }
+
+    PublicKey publicKey(byte[] x509){
+        try {
+            return KeyFactory.getInstance(keyType).generatePublic(new X509EncodedKeySpec(x509));
+        } catch (NoSuchAlgorithmException | InvalidKeySpecException ex) {
+            throw new IllegalArgumentException("Chave pública inválida para " + this, ex);
+        }
+    }
+
+    PrivateKey privateKey(byte[] pkcs8){
+        try {
+            return KeyFactory.getInstance(keyType).generatePrivate(new PKCS8EncodedKeySpec(pkcs8));
+        } catch (NoSuchAlgorithmException | InvalidKeySpecException ex) {
+            throw new IllegalArgumentException("Chave privada inválida para " + this, ex);
+        }
+    }
+}
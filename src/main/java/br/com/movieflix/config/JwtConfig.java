@@ -0,0 +1,70 @@
+package br.com.movieflix.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.io.ResourceLoader;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+
+@Slf4j
+@Configuration
+@EnableConfigurationProperties(JwtProperties.class)
+public class JwtConfig {
+
+    static final String DEV_PROFILE = "dev";
+
+    @Bean
+    public JwtKeySet jwtKeySet(JwtProperties properties,
+                               @Value("${movieflix.security.secret:}") String secret,
+                               ResourceLoader resourceLoader,
+                               Environment environment){
+        JwtAlgorithm algorithm = properties.algorithm();
+        if (!algorithm.isAsymmetric()) {
+            return JwtKeySet.hmac(secret);
+        }
+
+        if (properties.keys().isEmpty()) {
+            // Cada instância geraria a sua chave e um restart invalidaria todos os tokens: só no perfil dev
+            if (!environment.matchesProfiles(DEV_PROFILE)) {
+                throw new IllegalStateException("movieflix.security.jwt.algorithm=" + algorithm
+                        + " exige chaves em movieflix.security.jwt.keys (chave temporária apenas com o perfil dev)");
+            }
+            log.warn("Nenhuma chave em movieflix.security.jwt.keys: usando uma chave {} temporária. "
+                    + "Os tokens não sobrevivem a um restart nem valem em outras instâncias.", algorithm);
+            return JwtKeySet.ephemeral(algorithm);
+        }
+
+        List<JwtKeySet.JwtKey> keys = properties.keys().stream()
+                .map(key -> new JwtKeySet.JwtKey(key.kid(),
+                        algorithm.publicKey(pem(key.publicKey(), resourceLoader)),
+                        key.privateKey() == null ? null : algorithm.privateKey(pem(key.privateKey(), resourceLoader))))
+                .toList();
+        String activeKid = properties.activeKid() != null ? properties.activeKid()
+                : properties.keys().stream().filter(key -> key.privateKey() != null).findFirst()
+                        .map(JwtProperties.Key::kid)
+                        .orElseThrow(() -> new IllegalArgumentException("Nenhuma chave com privateKey para assinar os tokens"));
+        return JwtKeySet.of(algorithm, keys, activeKid);
+    }
+
+    private static byte[] pem(String value, ResourceLoader resourceLoader){
+        String content = value.contains("-----BEGIN") ? value : read(value, resourceLoader);
+        String base64 = content.replaceAll("-----(BEGIN|END) [A-Z ]+-----", "").replaceAll("\\s", "");
+        return Base64.getDecoder().decode(base64);
+    }
+
+    private static String read(String location, ResourceLoader resourceLoader){
+        try {
+            return resourceLoader.getResource(location).getContentAsString(StandardCharsets.US_ASCII);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Não foi possível ler a chave " + location, ex);
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package br.com.movieflix.config;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTVerifier;
+import com.auth0.jwt.algorithms.Algorithm;
+
+import java.math.BigInteger;
+import java.security.KeyPair;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.RSAPublicKey;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Chaves de assinatura dos tokens, carregadas uma única vez: o algoritmo de assinatura da chave ativa e um
+ * {@link JWTVerifier} pronto por "kid". A verificação só escolhe o verificador pelo cabeçalho do token,
+ * sem decodificar chaves por requisição.
+ *
+ * <p>Rotação: publique a chave nova apenas com a pública (entra no JWKS e já verifica), depois torne-a ativa
+ * com a privada e, passado o access-token-ttl, remova a antiga.</p>
+ */
+public final class JwtKeySet {
+
+    private final JwtAlgorithm jwtAlgorithm;
+    private final String activeKid;
+    private final Algorithm signingAlgorithm;
+    private final Map<String, JWTVerifier> verifiers;
+    private final JWTVerifier defaultVerifier;
+    private final List<Map<String, Object>> jwks;
+
+    private JwtKeySet(JwtAlgorithm jwtAlgorithm, String activeKid, Algorithm signingAlgorithm,
+                      Map<String, JWTVerifier> verifiers, List<Map<String, Object>> jwks){
+        this.jwtAlgorithm = jwtAlgorithm;
+        this.activeKid = activeKid;
+        this.signingAlgorithm = signingAlgorithm;
+        this.verifiers = Map.copyOf(verifiers);
+        this.defaultVerifier = JWT.require(signingAlgorithm).build();
+        this.jwks = List.copyOf(jwks);
+    }
+
+    /**
+     * Segredo compartilhado: quem verifica também consegue assinar, e nada é publicado no JWKS.
+     */
+    public static JwtKeySet hmac(String secret){
+        return new JwtKeySet(JwtAlgorithm.HS256, null, Algorithm.HMAC256(secret), Map.of(), List.of());
+    }
+
+    /**
+     * @param activeKid chave usada para assinar; as demais apenas verificam tokens emitidos antes da rotação
+     */
+    public static JwtKeySet of(JwtAlgorithm jwtAlgorithm, List<JwtKey> keys, String activeKid){
+        if (!jwtAlgorithm.isAsymmetric()) {
+            throw new IllegalArgumentException(jwtAlgorithm + " não usa par de chaves");
+        }
+
+        Map<String, JWTVerifier> verifiers = new HashMap<>();
+        List<Map<String, Object>> jwks = keys.stream().map(key -> jwk(jwtAlgorithm, key)).toList();
+        Algorithm signingAlgorithm = null;
+        for (JwtKey key : keys) {
+            Algorithm algorithm = jwtAlgorithm.algorithm(key.publicKey(), key.privateKey());
+            verifiers.put(key.kid(), JWT.require(algorithm).build());
+            if (key.kid().equals(activeKid)) {
+                if (key.privateKey() == null) {
+                    throw new IllegalArgumentException("A chave ativa " + activeKid + " não tem chave privada");
+                }
+                signingAlgorithm = algorithm;
+            }
+        }
+        if (signingAlgorithm == null) {
+            throw new IllegalArgumentException("Chave ativa não encontrada: " + activeKid);
+        }
+        return new JwtKeySet(jwtAlgorithm, activeKid, signingAlgorithm, verifiers, jwks);
+    }
+
+    /**
+     * Par de chaves gerado em memória, para desenvolvimento: os tokens deixam de valer quando a aplicação reinicia
+     * e não são aceitos por outras instâncias.
+     */
+    public static JwtKeySet ephemeral(JwtAlgorithm jwtAlgorithm){
+        KeyPair keyPair = jwtAlgorithm.generateKeyPair();
+        JwtKey key = new JwtKey("dev-" + UUID.randomUUID(), keyPair.getPublic(), keyPair.getPrivate());
+        return of(jwtAlgorithm, List.of(key), key.kid());
+    }
+
+    public JwtAlgorithm jwtAlgorithm(){
+        return jwtAlgorithm;
+    }
+
+    public String activeKid(){
+        return activeKid;
+    }
+
+    public Algorithm signingAlgorithm(){
+        return signingAlgorithm;
+    }
+
+    /**
+     * Verificador do "kid" do token, ou null para um kid desconhecido. Tokens sem kid (HS256 e os emitidos antes
+     * das chaves assimétricas) usam a chave ativa; com outro algoritmo a verificação falha.
+     */
+    public JWTVerifier verifier(String kid){
+        return kid == null ? defaultVerifier : verifiers.get(kid);
+    }
+
+    public Map<String, Object> jwks(){
+        return Map.of("keys", jwks);
+    }
+
+    private static Map<String, Object> jwk(JwtAlgorithm jwtAlgorithm, JwtKey key){
+        Map<String, Object> jwk = new LinkedHashMap<>();
+        jwk.put("kid", key.kid());
+        jwk.put("use", "sig");
+        jwk.put("alg", jwtAlgorithm.name());
+        if (key.publicKey() instanceof RSAPublicKey rsa) {
+            jwk.put("kty", "RSA");
+            jwk.put("n", base64Url(rsa.getModulus(), 0));
+            jwk.put("e", base64Url(rsa.getPublicExponent(), 0));
+        } else if (key.publicKey() instanceof ECPublicKey ec) {
+            jwk.put("kty", "EC");
+            jwk.put("crv", "P-256");
+            jwk.put("x", base64Url(ec.getW().getAffineX(), 32));
+            jwk.put("y", base64Url(ec.getW().getAffineY(), 32));
+        }
+        return jwk;
+    }
+
+    /**
+     * Inteiro sem sinal em big-endian, completado com zeros à esquerda até {@code length} bytes quando informado.
+     */
+    private static String base64Url(BigInteger value, int length){
+        byte[] bytes = value.toByteArray();
+        if (bytes.length > 1 && bytes[0] == 0) {
+            bytes = Arrays.copyOfRange(bytes, 1, bytes.length);
+        }
+        if (bytes.length < length) {
+            byte[] padded = new byte[length];
+            System.arraycopy(bytes, 0, padded, length - bytes.length, bytes.length);
+            bytes = padded;
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    public record JwtKey(String kid, PublicKey publicKey, PrivateKey privateKey) {
+    }
+}
@@ -0,0 +1,23 @@
+package br.com.movieflix.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.util.List;
+
+/**
+ * Chaves dos tokens ({@code movieflix.security.jwt.*}). As chaves são PEM (pública X.509, privada PKCS#8),
+ * informadas diretamente ou por um caminho ("file:/etc/movieflix/jwt-2024.pem", "classpath:...").
+ * O padrão é HS256 com {@code movieflix.security.secret}; RS256 e ES256 exigem chaves configuradas.
+ */
+@ConfigurationProperties("movieflix.security.jwt")
+public record JwtProperties(@DefaultValue("HS256") JwtAlgorithm algorithm,
+                            String activeKid,
+                            @DefaultValue List<Key> keys) {
+
+    /**
+     * Sem privateKey a chave apenas verifica: usada ao publicar uma chave antes de ativá-la ou ao aposentar a anterior.
+     */
+    public record Key(String kid, String publicKey, String privateKey) {
+    }
+}
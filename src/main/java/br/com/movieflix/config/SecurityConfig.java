@@ -1,7 +1,12 @@
 package br.com.movieflix.config;
 
+import br.com.movieflix.ratelimit.RateLimitFilter;
+import br.com.movieflix.ratelimit.RateLimitProperties;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -12,16 +17,22 @@ import org.springframework.security.config.annotation.web.configuration.EnableWe
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
+import java.time.Duration;
+import java.util.Map;
+
 @Configuration
 @EnableWebSecurity
+@EnableConfigurationProperties(RateLimitProperties.class)
 @RequiredArgsConstructor
 public class SecurityConfig {
 
     private final SecurityFilter securityFilter;
+    private final RateLimitFilter rateLimitFilter;
     private final CorsConfig corsConfig;
 
     @Bean
@@ -35,11 +46,17 @@ public class SecurityConfig {
                         .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
                         .requestMatchers(HttpMethod.POST, "/movieflix/auth/register").permitAll()
                         .requestMatchers(HttpMethod.POST, "/movieflix/auth/login").permitAll()
+                        .requestMatchers(HttpMethod.POST, "/movieflix/auth/refresh").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/movieflix/auth/jwks.json").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/api-docs/**").permitAll()
                         .requestMatchers(HttpMethod.GET, "/swagger/**").permitAll()
+                        // O actuator só responde em management.server.port, que não é exposta publicamente
+                        .requestMatchers(HttpMethod.GET, "/actuator/health", "/actuator/prometheus").permitAll()
                         .anyRequest().authenticated()
                 )
                 .addFilterBefore(securityFilter, UsernamePasswordAuthenticationFilter.class)
+                // Depois da autenticação, para limitar pelo usuário do token
+                .addFilterAfter(rateLimitFilter, SecurityFilter.class)
                 .build();
     }
 
@@ -50,8 +67,26 @@ public class SecurityConfig {
 
 
     @Bean
-    public PasswordEncoder passwordEncoder(){
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${movieflix.security.password.bcrypt-strength:10}") int bcryptStrength,
+                                           @Value("${movieflix.security.password.max-concurrent-hashes:0}") int maxConcurrentHashes,
+                                           @Value("${movieflix.security.password.max-waiting-hashes:0}") int maxWaitingHashes,
+                                           @Value("${movieflix.security.password.acquire-timeout:100ms}") Duration acquireTimeout,
+                                           MeterRegistry meterRegistry){
+        int maxConcurrent = maxConcurrentHashes > 0 ? maxConcurrentHashes : Runtime.getRuntime().availableProcessors();
+        int maxWaiting = maxWaitingHashes > 0 ? maxWaitingHashes : maxConcurrent;
+        return new BoundedPasswordEncoder(delegatingPasswordEncoder(bcryptStrength), maxConcurrent, maxWaiting, acquireTimeout, meterRegistry);
+    }
+
+    /**
+     * Novos hashes são gravados como "{bcrypt}..." com o custo configurado. Hashes sem prefixo (anteriores a este esquema)
+     * continuam sendo aceitos como bcrypt; hashes sem prefixo ou com custo menor são refeitos no próximo login
+     * (AuthService.updatePassword).
+     */
+    public static PasswordEncoder delegatingPasswordEncoder(int bcryptStrength){
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(bcryptStrength);
+        DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder("bcrypt", Map.of("bcrypt", bcrypt));
+        encoder.setDefaultPasswordEncoderForMatches(bcrypt);
+        return encoder;
     }
 
 }
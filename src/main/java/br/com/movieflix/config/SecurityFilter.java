@@ -19,6 +19,7 @@ import java.util.Optional;
 public class SecurityFilter extends OncePerRequestFilter {
 
     private final TokenService tokenService;
+    private final TokenRevocationList tokenRevocationList;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
@@ -26,7 +27,8 @@ public class SecurityFilter extends OncePerRequestFilter {
         if (Strings.isNotEmpty(authorizationHeader) && authorizationHeader.startsWith("Bearer ")) {
             String token = authorizationHeader.substring("Bearer ".length());
 
-            Optional<JWTUserData> optJwtUserData = tokenService.verifyToken(token);
+            Optional<JWTUserData> optJwtUserData = tokenService.verifyToken(token)
+                    .filter(userData -> userData.jti() == null || !tokenRevocationList.isRevoked(userData.jti()));
             if (optJwtUserData.isPresent()){
                 JWTUserData userData = optJwtUserData.get();
                 UsernamePasswordAuthenticationToken authenticationToken = new UsernamePasswordAuthenticationToken(userData, null, null);
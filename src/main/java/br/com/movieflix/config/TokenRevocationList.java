@@ -0,0 +1,95 @@
+package br.com.movieflix.config;
+
+import br.com.movieflix.entity.RevokedAccessToken;
+import br.com.movieflix.repository.RevokedAccessTokenRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Access tokens revogados antes de expirar, consultados pelo {@link SecurityFilter} a cada requisição sem ir ao banco.
+ *
+ * <p>O caminho comum (token não revogado) é respondido pelo bloom filter; só os positivos, incluindo os falsos,
+ * consultam o mapa exato. As revogações são gravadas no banco e cada instância recarrega a lista periodicamente,
+ * descartando os tokens que já expiraram e reconstruindo o filtro.</p>
+ */
+@Component
+public class TokenRevocationList {
+
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    private final RevokedAccessTokenRepository repository;
+    private final int expectedTokens;
+    private final Map<UUID, Instant> revoked = new ConcurrentHashMap<>();
+    private volatile JtiBloomFilter filter;
+
+    public TokenRevocationList(RevokedAccessTokenRepository repository,
+                               @Value("${movieflix.security.revocation.expected-tokens:100000}") int expectedTokens,
+                               MeterRegistry meterRegistry){
+        this.repository = repository;
+        this.expectedTokens = expectedTokens;
+        this.filter = new JtiBloomFilter(expectedTokens, FALSE_POSITIVE_RATE);
+        Gauge.builder("movieflix.jwt.revoked", revoked, Map::size)
+                .description("Access tokens revogados ainda não expirados")
+                .register(meterRegistry);
+    }
+
+    public boolean isRevoked(UUID jti){
+        return filter.mightContain(jti) && revoked.containsKey(jti);
+    }
+
+    public void revoke(UUID jti, Instant expiresAt){
+        if (!expiresAt.isAfter(Instant.now())) {
+            return;
+        }
+        repository.save(new RevokedAccessToken(jti, LocalDateTime.ofInstant(expiresAt, ZoneId.systemDefault())));
+        add(jti, expiresAt);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${movieflix.security.revocation.sync-interval:PT10S}",
+            fixedDelayString = "${movieflix.security.revocation.sync-interval:PT10S}")
+    public void sync(){
+        LocalDateTime now = LocalDateTime.now();
+        repository.deleteExpired(now);
+        for (RevokedAccessToken token : repository.findByExpiresAtAfter(now)) {
+            revoked.putIfAbsent(token.getJti(), token.getExpiresAt().atZone(ZoneId.systemDefault()).toInstant());
+        }
+        rebuild();
+    }
+
+    /**
+     * O filtro publicado nunca é alterado: {@link #isRevoked} o lê sem sincronização, então a revogação vai para uma
+     * cópia, publicada pelo campo volatile. A cópia custa o tamanho do filtro por revogação, que é rara (logout).
+     */
+    private synchronized void add(UUID jti, Instant expiresAt){
+        revoked.put(jti, expiresAt);
+        JtiBloomFilter updated = filter.copy();
+        updated.add(jti);
+        filter = updated;
+    }
+
+    /**
+     * Remove os expirados e publica um filtro novo. Sincronizado com {@link #add} para que nenhuma revogação
+     * feita durante a reconstrução fique de fora do filtro publicado.
+     */
+    private synchronized void rebuild(){
+        Instant now = Instant.now();
+        revoked.values().removeIf(expiresAt -> !expiresAt.isAfter(now));
+
+        JtiBloomFilter rebuilt = new JtiBloomFilter(Math.max(expectedTokens, revoked.size() * 2), FALSE_POSITIVE_RATE);
+        revoked.keySet().forEach(rebuilt::add);
+        filter = rebuilt;
+    }
+}
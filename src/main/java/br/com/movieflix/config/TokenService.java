@@ -2,54 +2,156 @@ package br.com.movieflix.config;
 
 import br.com.movieflix.entity.User;
 import com.auth0.jwt.JWT;
-import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.JWTCreator;
+import com.auth0.jwt.JWTVerifier;
 import com.auth0.jwt.exceptions.JWTVerificationException;
 import com.auth0.jwt.interfaces.DecodedJWT;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
-import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.time.Instant;
+import java.util.Base64;
 import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 @Component
 public class TokenService {
 
-    @Value("${movieflix.security.secret}")
-    private String secret;
+    private final JwtKeySet keySet;
+    private final Duration accessTokenTtl;
+    private final Cache<String, VerifiedToken> verifiedTokens;
+    private final Timer cachedVerifications;
+    private final Timer signatureVerifications;
+    private final Timer rejectedVerifications;
 
-    public String generateToken(User user){
-        Algorithm algorithm = Algorithm.HMAC256(secret);
+    public TokenService(JwtKeySet keySet,
+                        @Value("${movieflix.security.token-cache.max-size:10000}") long tokenCacheMaxSize,
+                        @Value("${movieflix.security.access-token-ttl:15m}") Duration accessTokenTtl,
+                        MeterRegistry meterRegistry){
+        this.keySet = keySet;
+        this.accessTokenTtl = accessTokenTtl;
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(tokenCacheMaxSize)
+                .expireAfter(new TokenExpiry())
+                .build();
+        this.cachedVerifications = verificationTimer(meterRegistry, "cached");
+        this.signatureVerifications = verificationTimer(meterRegistry, "verified");
+        this.rejectedVerifications = verificationTimer(meterRegistry, "rejected");
+    }
 
-        return JWT.create()
+    /**
+     * Access token de vida curta; a sessão é estendida pelo refresh token (RefreshTokenService).
+     * O "jti" identifica o token para revogação no logout.
+     */
+    public String generateToken(User user){
+        Instant now = Instant.now();
+        JWTCreator.Builder builder = JWT.create();
+        if (keySet.activeKid() != null) {
+            builder.withKeyId(keySet.activeKid());
+        }
+        return builder
+                .withJWTId(UUID.randomUUID().toString())
                 .withSubject(user.getEmail())
                 .withClaim("userId", user.getId())
                 .withClaim("name", user.getName())
-                .withExpiresAt(Instant.now().plusSeconds(84600))
-                .withIssuedAt(Instant.now())
+                .withExpiresAt(now.plus(accessTokenTtl))
+                .withIssuedAt(now)
                 .withIssuer("Api Movieflix")
-                .sign(algorithm);
+                .sign(keySet.signingAlgorithm());
     }
 
     public Optional<JWTUserData> verifyToken (String token){
-        Algorithm algorithm = Algorithm.HMAC256(secret);
-
+        long start = System.nanoTime();
+        // Tokens já verificados ficam em cache até o seu "exp", evitando recalcular o HMAC a cada requisição
+        String tokenHash = hash(token);
+        VerifiedToken cached = verifiedTokens.getIfPresent(tokenHash);
+        if (cached != null && cached.expiresAt().isAfter(Instant.now())) {
+            cachedVerifications.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return Optional.of(cached.userData());
+        }
 
         try{
-            DecodedJWT jwt = JWT.require(algorithm)
-                    .build()
-                    .verify(token);
+            // O kid do cabeçalho escolhe um verificador já montado; nenhuma chave é lida por requisição
+            DecodedJWT decoded = JWT.decode(token);
+            JWTVerifier verifier = keySet.verifier(decoded.getKeyId());
+            if (verifier == null) {
+                rejectedVerifications.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                return Optional.empty();
+            }
+            DecodedJWT jwt = verifier.verify(decoded);
 
-            return Optional.of(JWTUserData
+            JWTUserData userData = JWTUserData
                     .builder()
                     .id(jwt.getClaim("userId").asLong())
                     .name(jwt.getClaim("name").asString())
                     .email(jwt.getSubject())
-                    .build());
+                    // Tokens emitidos antes do jti não podem ser revogados, apenas expiram
+                    .jti(jwt.getId() == null ? null : UUID.fromString(jwt.getId()))
+                    .expiresAt(jwt.getExpiresAtAsInstant())
+                    .build();
+
+            if (jwt.getExpiresAtAsInstant() != null) {
+                verifiedTokens.put(tokenHash, new VerifiedToken(userData, jwt.getExpiresAtAsInstant()));
+            }
+            signatureVerifications.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return Optional.of(userData);
 
         }catch (JWTVerificationException ex){
+            rejectedVerifications.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
             return Optional.empty();
         }
     }
 
+    public Duration accessTokenTtl(){
+        return accessTokenTtl;
+    }
+
+    private static Timer verificationTimer(MeterRegistry meterRegistry, String result){
+        return Timer.builder("movieflix.jwt.verify")
+                .description("Tempo de verificação do token JWT")
+                .tag("result", result)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private static String hash(String token){
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private record VerifiedToken(JWTUserData userData, Instant expiresAt) {
+    }
+
+    private static class TokenExpiry implements Expiry<String, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+            return Math.max(0, Duration.between(Instant.now(), value.expiresAt()).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+
 }
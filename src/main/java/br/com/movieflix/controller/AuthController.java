@@ -1,13 +1,19 @@
 package br.com.movieflix.controller;
 
+import br.com.movieflix.config.JWTUserData;
+import br.com.movieflix.config.JwtKeySet;
+import br.com.movieflix.config.TokenRevocationList;
 import br.com.movieflix.config.TokenService;
 import br.com.movieflix.controller.request.LoginRequest;
+import br.com.movieflix.controller.request.RefreshTokenRequest;
 import br.com.movieflix.controller.request.UserRequest;
 import br.com.movieflix.controller.response.LoginResponse;
 import br.com.movieflix.controller.response.UserResponse;
 import br.com.movieflix.entity.User;
+import br.com.movieflix.exception.PasswordHashingBusyException;
 import br.com.movieflix.exception.UsernameOrPasswordInvalidException;
 import br.com.movieflix.mapper.UserMapper;
+import br.com.movieflix.service.RefreshTokenService;
 import br.com.movieflix.service.UserService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -15,15 +21,21 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.InternalAuthenticationServiceException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.bind.annotation.RequestMethod;
 
+import java.time.Duration;
+import java.util.Map;
+
 @RequiredArgsConstructor
 @RequestMapping("movieflix/auth")
 @RestController
@@ -32,6 +44,9 @@ public class AuthController {
     private final UserService service;
     private final AuthenticationManager authenticationManager;
     private final TokenService tokenService;
+    private final RefreshTokenService refreshTokenService;
+    private final TokenRevocationList tokenRevocationList;
+    private final JwtKeySet jwtKeySet;
 
     @Operation(
             summary = "Registrar usuário",
@@ -46,6 +61,10 @@ public class AuthController {
             responseCode = "400",
             description = "Erro de validação nos dados enviados."
     )
+    @ApiResponse(
+            responseCode = "409",
+            description = "E-mail já cadastrado."
+    )
     @ApiResponse(
             responseCode = "500",
             description = "Erro interno no servidor."
@@ -74,6 +93,10 @@ public class AuthController {
             responseCode = "401",
             description = "Usuário ou senha inválida."
     )
+    @ApiResponse(
+            responseCode = "503",
+            description = "Muitos logins simultâneos, tente novamente após o Retry-After."
+    )
     @ApiResponse(
             responseCode = "500",
             description = "Erro interno no servidor."
@@ -86,14 +109,80 @@ public class AuthController {
 
             User user = (User) authenticate.getPrincipal();
 
-            String token = tokenService.generateToken(user);
-
-            return ResponseEntity.ok(new LoginResponse(token));
+            return ResponseEntity.ok(this.loginResponse(user, refreshTokenService.issue(user)));
         }catch (BadCredentialsException e){
             throw new UsernameOrPasswordInvalidException("Usuário ou senha inválida");
+        }catch (InternalAuthenticationServiceException e){
+            // A busca do usuário é envolvida pelo provider; a falta de vaga para o hash deve continuar sendo um 503
+            if (e.getCause() instanceof PasswordHashingBusyException busy) {
+                throw busy;
+            }
+            throw e;
         }
     }
 
+    @Operation(
+            summary = "Renovar token",
+            description = "Método responsável por trocar um refresh token por um novo token JWT e um novo refresh token. " +
+                    "Cada refresh token só pode ser usado uma vez; reutilizar um token já trocado revoga todos os tokens do usuário."
+    )
+    @ApiResponse(
+            responseCode = "200",
+            description = "Token renovado com sucesso.",
+            content = @Content(schema = @Schema(implementation = LoginResponse.class))
+    )
+    @ApiResponse(
+            responseCode = "401",
+            description = "Refresh token inválido, expirado ou já utilizado."
+    )
+    @PostMapping("/refresh")
+    public ResponseEntity<LoginResponse> refresh(@RequestBody RefreshTokenRequest request){
+        RefreshTokenService.Rotation rotation = refreshTokenService.rotate(request.refreshToken());
+        return ResponseEntity.ok(this.loginResponse(rotation.user(), rotation.refreshToken()));
+    }
+
+    @Operation(
+            summary = "Logout",
+            description = "Método responsável por revogar o token JWT atual e, se informado, o refresh token.",
+            security = @SecurityRequirement(name = "bearerAuth")
+    )
+    @ApiResponse(
+            responseCode = "204",
+            description = "Tokens revogados."
+    )
+    @ApiResponse(
+            responseCode = "401",
+            description = "Token inválido ou expirado."
+    )
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(@AuthenticationPrincipal JWTUserData userData,
+                                       @RequestBody(required = false) RefreshTokenRequest request){
+        if (userData.jti() != null) {
+            tokenRevocationList.revoke(userData.jti(), userData.expiresAt());
+        }
+        if (request != null && request.refreshToken() != null) {
+            refreshTokenService.revoke(request.refreshToken());
+        }
+        return ResponseEntity.noContent().build();
+    }
+
+    @Operation(
+            summary = "Chaves públicas (JWKS)",
+            description = "Método responsável por publicar as chaves públicas que verificam os tokens, identificadas pelo kid " +
+                    "do cabeçalho. Permite verificar tokens sem o segredo de assinatura. Vazio quando os tokens usam HS256."
+    )
+    @ApiResponse(
+            responseCode = "200",
+            description = "Conjunto de chaves no formato JWK Set (RFC 7517)."
+    )
+    @GetMapping("/jwks.json")
+    public ResponseEntity<Map<String, Object>> jwks(){
+        // Curto o bastante para que uma chave recém-publicada chegue aos verificadores antes de ser ativada
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(Duration.ofMinutes(5)).cachePublic())
+                .body(jwtKeySet.jwks());
+    }
+
     @Operation(
             summary = "Validar token",
             description = "Método responsável por validar se o token JWT é válido. Retorna 200 se válido, 401 se inválido.",
@@ -111,4 +200,8 @@ public class AuthController {
     public ResponseEntity<Void> validateToken(){
         return ResponseEntity.ok().build();
     }
+
+    private LoginResponse loginResponse(User user, String refreshToken){
+        return new LoginResponse(tokenService.generateToken(user), refreshToken, tokenService.accessTokenTtl().toSeconds());
+    }
 }
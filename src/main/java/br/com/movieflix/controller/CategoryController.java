@@ -5,6 +5,8 @@ import br.com.movieflix.controller.response.CategoryResponse;
 import br.com.movieflix.entity.Category;
 import br.com.movieflix.mapper.CategoryMapper;
 import br.com.movieflix.service.CategoryService;
+import br.com.movieflix.versioning.ConditionalRequests;
+import br.com.movieflix.versioning.ResourceVersion;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -16,8 +18,10 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
+import java.util.Optional;
 
 @RestController()
 @RequiredArgsConstructor
@@ -30,8 +34,13 @@ public class CategoryController {
             security = @SecurityRequirement(name = "bearerAuth"))
     @ApiResponse(responseCode = "200", description = "Retornar todas as categorias cadastradas.",
             content = @Content(array = @ArraySchema(schema = @Schema(implementation = CategoryResponse.class))))
+    @ApiResponse(responseCode = "304", description = "Categorias não mudaram desde a versão informada.", content = @Content())
     @GetMapping()
-    public ResponseEntity<List<CategoryResponse>> getAllCategories(){
+    public ResponseEntity<List<CategoryResponse>> getAllCategories(WebRequest webRequest){
+        if (ConditionalRequests.isNotModified(webRequest, categoryService.findAllVersion())) {
+            return null;
+        }
+
         List<CategoryResponse> categories = categoryService.findAll()
                 .stream()
                 .map(CategoryMapper::toCategoryResponse)
@@ -55,12 +64,19 @@ public class CategoryController {
             security = @SecurityRequirement(name = "bearerAuth"))
     @ApiResponse(responseCode = "200", description = "Categoria encontrada com sucesso",
             content = @Content(schema = @Schema(implementation = CategoryResponse.class)))
+    @ApiResponse(responseCode = "304", description = "Categoria não mudou desde a versão informada.", content = @Content())
     @ApiResponse(responseCode = "404", description = "Categoria não encontrada", content = @Content())
     @GetMapping("/{id}")
-    public ResponseEntity<CategoryResponse> getByCategoryId(@PathVariable Long id){
-        return categoryService.findById(id)
-                .map(category -> ResponseEntity.ok(CategoryMapper.toCategoryResponse(category)))
-                .orElse(ResponseEntity.notFound().build());
+    public ResponseEntity<CategoryResponse> getByCategoryId(@PathVariable Long id, WebRequest webRequest){
+        Optional<Category> category = categoryService.findById(id);
+        if (category.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        if (ConditionalRequests.isNotModified(webRequest, ResourceVersion.ofContent("category-" + id, category.get().getName()))) {
+            return null;
+        }
+
+        return ResponseEntity.ok(CategoryMapper.toCategoryResponse(category.get()));
 
     }
 
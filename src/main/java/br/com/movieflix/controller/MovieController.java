@@ -1,10 +1,25 @@
 package br.com.movieflix.controller;
 
 import br.com.movieflix.controller.request.MovieRequest;
+import br.com.movieflix.controller.request.MovieSearchRequest;
+import br.com.movieflix.controller.response.MovieImportErrorResponse;
+import br.com.movieflix.controller.response.MovieImportResponse;
+import br.com.movieflix.controller.response.MoviePageResponse;
 import br.com.movieflix.controller.response.MovieResponse;
+import br.com.movieflix.controller.response.MovieSearchResponse;
+import br.com.movieflix.controller.response.MovieSuggestionResponse;
+import br.com.movieflix.controller.response.SideloadedMoviePageResponse;
 import br.com.movieflix.entity.Movie;
+import br.com.movieflix.importing.ImportFormat;
+import br.com.movieflix.importing.MovieImportResult;
 import br.com.movieflix.mapper.MovieMapper;
+import br.com.movieflix.pagination.CursorPage;
+import br.com.movieflix.pagination.MovieSort;
+import br.com.movieflix.pagination.OffsetPage;
+import br.com.movieflix.service.MovieImportService;
 import br.com.movieflix.service.MovieService;
+import br.com.movieflix.versioning.ConditionalRequests;
+import br.com.movieflix.versioning.VersionedMovie;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -14,9 +29,21 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.util.List;
 import java.util.Optional;
 
@@ -26,7 +53,11 @@ import java.util.Optional;
 @Tag(name = "Movie", description = "Recurso responsavel pelo gerenciamento dos filmes.")
 public class MovieController {
 
+    private static final MediaType APPLICATION_NDJSON = MediaType.parseMediaType(ImportFormat.NDJSON_VALUE);
+
     private final MovieService movieService;
+    private final MovieImportService movieImportService;
+    private final ObjectMapper objectMapper;
 
     @Operation(summary = "Salvar filme", description = "Método responsável por realizar o salvamento do novo filme",
             security = @SecurityRequirement(name = "bearerAuth"))
@@ -38,28 +69,152 @@ public class MovieController {
         return ResponseEntity.ok(MovieMapper.toMovieResponse(savedMovie));
     }
 
-    @Operation(summary = "Buscar filme", description = "Método responsável por retornar todos os filmes cadastrados.",
+    @Operation(summary = "Importar filmes", description = "Método responsável por importar filmes em lote a partir de um array JSON, " +
+            "NDJSON (application/x-ndjson) ou CSV (text/csv, com cabeçalho e ids separados por ';'). " +
+            "Registros inválidos são rejeitados individualmente e informados na resposta.",
+            security = @SecurityRequirement(name = "bearerAuth"))
+    @ApiResponse(responseCode = "200", description = "Resultado da importação.",
+            content = @Content(schema = @Schema(implementation = MovieImportResponse.class)))
+    @PostMapping(value = "/import", consumes = {MediaType.APPLICATION_JSON_VALUE, ImportFormat.NDJSON_VALUE, ImportFormat.CSV_VALUE})
+    public ResponseEntity<MovieImportResponse> importMovies(@RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+                                                            InputStream body) throws IOException {
+        MovieImportResult result = movieImportService.importMovies(body, ImportFormat.fromContentType(contentType));
+        return ResponseEntity.ok(MovieImportResponse.builder()
+                .imported(result.imported())
+                .failed(result.failed())
+                .errors(result.errors()
+                        .stream()
+                        .map(error -> new MovieImportErrorResponse(error.record(), error.message()))
+                        .toList())
+                .elapsedMillis(result.elapsedMillis())
+                .build());
+    }
+
+    @Operation(summary = "Buscar filmes paginados", description = "Método responsável por retornar os filmes cadastrados em páginas, " +
+            "ordenados por id (ID), nota (RATING) ou data de lançamento (RELEASE_DATE). Use o nextCursor para buscar a próxima página.",
+            security = @SecurityRequirement(name = "bearerAuth"))
+    @ApiResponse(responseCode = "200", description = "Página de filmes cadastrados.",
+            content = @Content(schema = @Schema(implementation = MoviePageResponse.class)))
+    @ApiResponse(responseCode = "304", description = "Catálogo não mudou desde a versão informada.", content = @Content())
+    @ApiResponse(responseCode = "400", description = "Cursor inválido.", content = @Content())
+    @GetMapping
+    public ResponseEntity<MoviePageResponse> findPage(@RequestParam(required = false) String cursor,
+                                                      @RequestParam(defaultValue = "ID") MovieSort sort,
+                                                      @RequestParam(required = false) Integer size,
+                                                      WebRequest webRequest){
+        Optional<CursorPage<Movie>> modified = movieService.findPageIfModified(sort, cursor, size,
+                version -> ConditionalRequests.isNotModified(webRequest, version));
+        if (modified.isEmpty()) {
+            return null;
+        }
+
+        CursorPage<Movie> page = modified.get();
+        List<MovieResponse> content = page.content()
+                .stream()
+                .map(MovieMapper::toMovieResponse)
+                .toList();
+
+        return ResponseEntity.ok(MoviePageResponse.builder()
+                .content(content)
+                .nextCursor(page.nextCursor())
+                .size(content.size())
+                .build());
+    }
+
+    @Operation(summary = "Buscar filmes paginados (normalizado)", description = "Mesmo que a busca paginada, mas com view=sideloaded: " +
+            "as categorias e os streamings da página vêm uma única vez em listas próprias e cada filme traz apenas os códigos. " +
+            "Reduz o tamanho da resposta quando muitos filmes compartilham as mesmas categorias e streamings.",
+            security = @SecurityRequirement(name = "bearerAuth"))
+    @ApiResponse(responseCode = "200", description = "Página de filmes cadastrados.",
+            content = @Content(schema = @Schema(implementation = SideloadedMoviePageResponse.class)))
+    @ApiResponse(responseCode = "304", description = "Catálogo não mudou desde a versão informada.", content = @Content())
+    @ApiResponse(responseCode = "400", description = "Cursor inválido.", content = @Content())
+    @GetMapping(params = "view=sideloaded")
+    public ResponseEntity<SideloadedMoviePageResponse> findPageSideloaded(@RequestParam(required = false) String cursor,
+                                                                          @RequestParam(defaultValue = "ID") MovieSort sort,
+                                                                          @RequestParam(required = false) Integer size,
+                                                                          WebRequest webRequest){
+        Optional<CursorPage<Movie>> modified = movieService.findPageIfModified(sort, cursor, size,
+                version -> ConditionalRequests.isNotModified(webRequest, version));
+        if (modified.isEmpty()) {
+            return null;
+        }
+
+        CursorPage<Movie> page = modified.get();
+        return ResponseEntity.ok(MovieMapper.toSideloadedMoviePageResponse(page.content(), page.nextCursor()));
+    }
+
+    @Operation(summary = "Buscar filme", description = "Método responsável por retornar todos os filmes cadastrados, sem paginação. " +
+            "Exige o parâmetro unpaged=true.",
     security = @SecurityRequirement(name = "bearerAuth"))
     @ApiResponse(responseCode = "200", description = "Retornar todos os filmes cadastrados.",
             content = @Content(array = @ArraySchema(schema = @Schema(implementation = MovieResponse.class))))
-    @GetMapping
-    public ResponseEntity<List<MovieResponse>> findAll(){
-        return ResponseEntity.ok(movieService.findAll()
+    @ApiResponse(responseCode = "304", description = "Catálogo não mudou desde a versão informada.", content = @Content())
+    @GetMapping(params = "unpaged=true")
+    public ResponseEntity<List<MovieResponse>> findAll(WebRequest webRequest){
+        Optional<List<Movie>> movies = movieService.findAllIfModified(version -> ConditionalRequests.isNotModified(webRequest, version));
+        if (movies.isEmpty()) {
+            return null;
+        }
+
+        return ResponseEntity.ok(movies.get()
                 .stream()
                 .map(MovieMapper::toMovieResponse)
                 .toList());
     }
 
+    @Operation(summary = "Buscar filme (normalizado)", description = "Todos os filmes cadastrados, sem paginação, no formato view=sideloaded. " +
+            "Exige o parâmetro unpaged=true.",
+            security = @SecurityRequirement(name = "bearerAuth"))
+    @ApiResponse(responseCode = "200", description = "Retornar todos os filmes cadastrados.",
+            content = @Content(schema = @Schema(implementation = SideloadedMoviePageResponse.class)))
+    @ApiResponse(responseCode = "304", description = "Catálogo não mudou desde a versão informada.", content = @Content())
+    @GetMapping(params = {"unpaged=true", "view=sideloaded"})
+    public ResponseEntity<SideloadedMoviePageResponse> findAllSideloaded(WebRequest webRequest){
+        Optional<List<Movie>> movies = movieService.findAllIfModified(version -> ConditionalRequests.isNotModified(webRequest, version));
+        if (movies.isEmpty()) {
+            return null;
+        }
+
+        return ResponseEntity.ok(MovieMapper.toSideloadedMoviePageResponse(movies.get(), null));
+    }
+
+    @Operation(summary = "Exportar catálogo", description = "Método responsável por exportar todos os filmes cadastrados. " +
+            "Retorna um array JSON, ou um filme por linha (NDJSON) quando o cabeçalho Accept pede application/x-ndjson. " +
+            "A resposta é escrita aos poucos, em lotes, sem montar a lista inteira em memória.",
+            security = @SecurityRequirement(name = "bearerAuth"))
+    @ApiResponse(responseCode = "200", description = "Catálogo completo de filmes.",
+            content = {@Content(mediaType = MediaType.APPLICATION_JSON_VALUE, array = @ArraySchema(schema = @Schema(implementation = MovieResponse.class))),
+                    @Content(mediaType = "application/x-ndjson", schema = @Schema(implementation = MovieResponse.class))})
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(@RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept){
+        boolean ndjson = accept != null && MediaType.parseMediaTypes(accept)
+                .stream()
+                .anyMatch(APPLICATION_NDJSON::equalsTypeAndSubtype);
+
+        return ResponseEntity.ok()
+                .contentType(ndjson ? APPLICATION_NDJSON : MediaType.APPLICATION_JSON)
+                .body(output -> this.writeExport(output, !ndjson));
+    }
+
     @Operation(summary = "Buscar filme por id", description = "Método responsável por buscar filme por id.",
             security = @SecurityRequirement(name = "bearerAuth"))
     @ApiResponse(responseCode = "200", description = "Filme encontrado com sucesso",
             content = @Content(schema = @Schema(implementation = MovieResponse.class)))
+    @ApiResponse(responseCode = "304", description = "Filme não mudou desde a versão informada.", content = @Content())
     @ApiResponse(responseCode = "404", description = "Filme não encontrado", content = @Content())
     @GetMapping("/{id}")
-    public ResponseEntity<MovieResponse> findMovieById(@PathVariable Long id){
-        return movieService.findMovieById(id)
-                .map(movie -> ResponseEntity.ok(MovieMapper.toMovieResponse(movie)))
-                .orElse(ResponseEntity.notFound().build());
+    public ResponseEntity<MovieResponse> findMovieById(@PathVariable Long id, WebRequest webRequest){
+        // A versão vem do filme carregado (normalmente do cache de segundo nível) e da versão das categorias e streamings
+        Optional<VersionedMovie> movie = movieService.findVersionedMovieById(id);
+        if (movie.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        if (ConditionalRequests.isNotModified(webRequest, movie.get().version())) {
+            return null;
+        }
+
+        return ResponseEntity.ok(MovieMapper.toMovieResponse(movie.get().movie()));
     }
 
     @Operation(summary = "Atualizar filme por id", description = "Método responsável por atualizar filme por id.",
@@ -74,11 +229,50 @@ public class MovieController {
                 .orElse(ResponseEntity.notFound().build());
     }
 
+    @Operation(summary = "Pesquisar filmes", description = "Método responsável por pesquisar filmes combinando categorias, " +
+            "streamings, faixa de nota e faixa de data de lançamento, com ordenação e paginação.",
+            security = @SecurityRequirement(name = "bearerAuth"))
+    @ApiResponse(responseCode = "200", description = "Filmes encontrados com sucesso.",
+            content = @Content(schema = @Schema(implementation = MovieSearchResponse.class)))
+    @ApiResponse(responseCode = "400", description = "Página além do offset máximo.", content = @Content())
+    @GetMapping("/search")
+    public ResponseEntity<MovieSearchResponse> search(@ParameterObject MovieSearchRequest request){
+        OffsetPage<Movie> page = movieService.search(MovieMapper.toMovieFilter(request), request.sort(), request.page(), request.size());
+        return ResponseEntity.ok(toMovieSearchResponse(page));
+    }
+
+    @Operation(summary = "Pesquisar filmes por texto", description = "Método responsável por pesquisar filmes pelo título e descrição, " +
+            "com busca por prefixo em todos os termos e resultados ordenados por relevância.",
+            security = @SecurityRequirement(name = "bearerAuth"))
+    @ApiResponse(responseCode = "200", description = "Filmes encontrados com sucesso.",
+            content = @Content(schema = @Schema(implementation = MovieSearchResponse.class)))
+    @ApiResponse(responseCode = "400", description = "Página além do offset máximo.", content = @Content())
+    @GetMapping(value = "/search", params = "q")
+    public ResponseEntity<MovieSearchResponse> searchByText(@RequestParam String q,
+                                                            @RequestParam(required = false) Integer page,
+                                                            @RequestParam(required = false) Integer size){
+        return ResponseEntity.ok(toMovieSearchResponse(movieService.searchByText(q, page, size)));
+    }
+
+    @Operation(summary = "Autocompletar títulos", description = "Método responsável por sugerir filmes enquanto o título é digitado, " +
+            "tolerando erros de digitação. As sugestões vêm de um índice em memória, ordenadas pela semelhança com o texto e pela nota.",
+            security = @SecurityRequirement(name = "bearerAuth"))
+    @ApiResponse(responseCode = "200", description = "Sugestões de filmes.",
+            content = @Content(array = @ArraySchema(schema = @Schema(implementation = MovieSuggestionResponse.class))))
+    @GetMapping("/autocomplete")
+    public ResponseEntity<List<MovieSuggestionResponse>> autocomplete(@RequestParam String q,
+                                                                      @RequestParam(required = false) Integer limit){
+        return ResponseEntity.ok(movieService.autocomplete(q, limit)
+                .stream()
+                .map(MovieMapper::toMovieSuggestionResponse)
+                .toList());
+    }
+
     @Operation(summary = "Buscar filme por categoria", description = "Método responsável por retornar todos os filmes de uma categoria.",
             security = @SecurityRequirement(name = "bearerAuth"))
     @ApiResponse(responseCode = "200", description = "Filmes encontrados com sucesso.",
             content = @Content(array = @ArraySchema(schema = @Schema(implementation = MovieResponse.class))))
-    @GetMapping("/search")
+    @GetMapping(value = "/search", params = {"category", "!q"})
     public ResponseEntity<List<MovieResponse>> findByCategory (@RequestParam Long category){
         return ResponseEntity.ok(
                 movieService.findByCategory(category)
@@ -103,4 +297,44 @@ public class MovieController {
 
         return ResponseEntity.notFound().build();
     }
+
+    private void writeExport(OutputStream output, boolean array) throws IOException {
+        try (JsonGenerator generator = objectMapper.createGenerator(output)) {
+            if (array) {
+                generator.writeStartArray();
+            } else {
+                generator.setRootValueSeparator(new SerializedString("\n"));
+            }
+
+            movieService.export(MovieMapper::toMovieResponse, batch -> {
+                try {
+                    for (MovieResponse movie : batch) {
+                        generator.writeObject(movie);
+                    }
+                    // Envia cada lote assim que é escrito, mantendo o tempo até o primeiro byte baixo
+                    generator.flush();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+
+            if (array) {
+                generator.writeEndArray();
+            } else {
+                generator.writeRaw('\n');
+            }
+        }
+    }
+
+    private MovieSearchResponse toMovieSearchResponse(OffsetPage<Movie> page){
+        return MovieSearchResponse.builder()
+                .content(page.content()
+                        .stream()
+                        .map(MovieMapper::toMovieResponse)
+                        .toList())
+                .page(page.page())
+                .size(page.size())
+                .hasNext(page.hasNext())
+                .build();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,87 @@
+package br.com.movieflix.controller;
+
+import br.com.movieflix.controller.response.CategoryStatisticsResponse;
+import br.com.movieflix.controller.response.ReleaseYearStatisticsResponse;
+import br.com.movieflix.controller.response.StreamingStatisticsResponse;
+import br.com.movieflix.service.CategoryService;
+import br.com.movieflix.service.StreamingService;
+import br.com.movieflix.statistics.CatalogStatistics;
+import br.com.movieflix.statistics.RatingSummary;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/movieflix/stats")
+@Tag(name = "Statistics", description = "Recurso responsavel pelas estatísticas do catálogo.")
+public class StatisticsController {
+
+    private final CatalogStatistics catalogStatistics;
+    private final CategoryService categoryService;
+    private final StreamingService streamingService;
+
+    @Operation(summary = "Filmes por categoria", description = "Método responsável por retornar a quantidade de filmes de cada categoria.",
+            security = @SecurityRequirement(name = "bearerAuth"))
+    @ApiResponse(responseCode = "200", description = "Quantidade de filmes por categoria.",
+            content = @Content(array = @ArraySchema(schema = @Schema(implementation = CategoryStatisticsResponse.class))))
+    @GetMapping("/categories")
+    public ResponseEntity<List<CategoryStatisticsResponse>> getMoviesPerCategory(){
+        Map<Long, Long> counts = catalogStatistics.moviesPerCategory();
+        return ResponseEntity.ok(categoryService.findAll()
+                .stream()
+                .map(category -> CategoryStatisticsResponse.builder()
+                        .id(category.getId())
+                        .name(category.getName())
+                        .movies(counts.getOrDefault(category.getId(), 0L))
+                        .build())
+                .toList());
+    }
+
+    @Operation(summary = "Nota média por streaming", description = "Método responsável por retornar a quantidade de filmes e a nota média " +
+            "de cada serviço de streaming.",
+            security = @SecurityRequirement(name = "bearerAuth"))
+    @ApiResponse(responseCode = "200", description = "Nota média por serviço de streaming.",
+            content = @Content(array = @ArraySchema(schema = @Schema(implementation = StreamingStatisticsResponse.class))))
+    @GetMapping("/streamings")
+    public ResponseEntity<List<StreamingStatisticsResponse>> getRatingPerStreaming(){
+        Map<Long, RatingSummary> summaries = catalogStatistics.ratingPerStreaming();
+        return ResponseEntity.ok(streamingService.findAll()
+                .stream()
+                .map(streaming -> {
+                    RatingSummary summary = summaries.getOrDefault(streaming.getId(), new RatingSummary(0, 0));
+                    return StreamingStatisticsResponse.builder()
+                            .id(streaming.getId())
+                            .name(streaming.getName())
+                            .movies(summary.movies())
+                            .averageRating(summary.averageRating())
+                            .build();
+                })
+                .toList());
+    }
+
+    @Operation(summary = "Lançamentos por ano", description = "Método responsável por retornar a quantidade de filmes lançados em cada ano.",
+            security = @SecurityRequirement(name = "bearerAuth"))
+    @ApiResponse(responseCode = "200", description = "Quantidade de lançamentos por ano, em ordem crescente.",
+            content = @Content(array = @ArraySchema(schema = @Schema(implementation = ReleaseYearStatisticsResponse.class))))
+    @GetMapping("/release-years")
+    public ResponseEntity<List<ReleaseYearStatisticsResponse>> getReleasesPerYear(){
+        return ResponseEntity.ok(catalogStatistics.releasesPerYear()
+                .entrySet()
+                .stream()
+                .map(entry -> new ReleaseYearStatisticsResponse(entry.getKey(), entry.getValue()))
+                .toList());
+    }
+}
@@ -6,6 +6,8 @@ import br.com.movieflix.controller.response.StreamingResponse;
 import br.com.movieflix.entity.Streaming;
 import br.com.movieflix.mapper.StreamingMapper;
 import br.com.movieflix.service.StreamingService;
+import br.com.movieflix.versioning.ConditionalRequests;
+import br.com.movieflix.versioning.ResourceVersion;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -17,8 +19,10 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
+import java.util.Optional;
 
 @RestController
 @RequiredArgsConstructor
@@ -31,8 +35,13 @@ public class StreamingController {
             security = @SecurityRequirement(name = "bearerAuth"))
     @ApiResponse(responseCode = "200", description = "Retornar todas os streamings cadastrados.",
             content = @Content(array = @ArraySchema(schema = @Schema(implementation = StreamingResponse.class))))
+    @ApiResponse(responseCode = "304", description = "Streamings não mudaram desde a versão informada.", content = @Content())
     @GetMapping()
-    public ResponseEntity<List<StreamingResponse>> getAllStreaming(){
+    public ResponseEntity<List<StreamingResponse>> getAllStreaming(WebRequest webRequest){
+        if (ConditionalRequests.isNotModified(webRequest, streamingService.findAllVersion())) {
+            return null;
+        }
+
         List<StreamingResponse> streamings = streamingService.findAll()
                 .stream()
                 .map(StreamingMapper::toStreamingResponse)
@@ -56,12 +65,19 @@ public class StreamingController {
             security = @SecurityRequirement(name = "bearerAuth"))
     @ApiResponse(responseCode = "200", description = "Streaming encontrado com sucesso",
             content = @Content(schema = @Schema(implementation = StreamingResponse.class)))
+    @ApiResponse(responseCode = "304", description = "Streaming não mudou desde a versão informada.", content = @Content())
     @ApiResponse(responseCode = "404", description = "Streaming não encontrado", content = @Content())
     @GetMapping("/{id}")
-    public ResponseEntity<StreamingResponse> getByCategoryId(@PathVariable Long id){
-        return streamingService.findById(id)
-                .map(streaming -> ResponseEntity.ok(StreamingMapper.toStreamingResponse(streaming)))
-                .orElse(ResponseEntity.notFound().build());
+    public ResponseEntity<StreamingResponse> getByCategoryId(@PathVariable Long id, WebRequest webRequest){
+        Optional<Streaming> streaming = streamingService.findById(id);
+        if (streaming.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        if (ConditionalRequests.isNotModified(webRequest, ResourceVersion.ofContent("streaming-" + id, streaming.get().getName()))) {
+            return null;
+        }
+
+        return ResponseEntity.ok(StreamingMapper.toStreamingResponse(streaming.get()));
     }
 
     @Operation(summary = "Deletar streaming por id", description = "Método responsável por deletar streaming por id.",
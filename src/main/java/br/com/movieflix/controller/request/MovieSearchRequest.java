@@ -0,0 +1,35 @@
+package br.com.movieflix.controller.request;
+
+import br.com.movieflix.pagination.MovieSort;
+import br.com.movieflix.search.MatchMode;
+import io.swagger.v3.oas.annotations.media.Schema;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public record MovieSearchRequest(@Schema(type = "array", description = "Códigos de categorias. ex: '1,2'")
+                                 List<Long> categories,
+                                 @Schema(type = "string", description = "ANY: filme em qualquer uma das categorias (padrão). ALL: em todas")
+                                 MatchMode categoryMatch,
+                                 @Schema(type = "array", description = "Códigos de serviços de streaming. ex: '3'")
+                                 List<Long> streamings,
+                                 @Schema(type = "string", description = "ANY: filme em qualquer um dos streamings (padrão). ALL: em todos")
+                                 MatchMode streamingMatch,
+                                 @Schema(type = "double", description = "Nota mínima. ex: '7'")
+                                 Double minRating,
+                                 @Schema(type = "double", description = "Nota máxima. ex: '9.5'")
+                                 Double maxRating,
+                                 @DateTimeFormat(pattern = "dd/MM/yyyy")
+                                 @Schema(type = "date", description = "Lançado a partir de. ex: '01/01/2010'")
+                                 LocalDate minReleaseDate,
+                                 @DateTimeFormat(pattern = "dd/MM/yyyy")
+                                 @Schema(type = "date", description = "Lançado até. ex: '31/12/2020'")
+                                 LocalDate maxReleaseDate,
+                                 @Schema(type = "string", description = "Ordenação: ID (padrão), RATING ou RELEASE_DATE")
+                                 MovieSort sort,
+                                 @Schema(type = "integer", description = "Página, começando em 0")
+                                 Integer page,
+                                 @Schema(type = "integer", description = "Tamanho da página")
+                                 Integer size) {
+}
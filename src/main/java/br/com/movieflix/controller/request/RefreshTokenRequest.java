@@ -0,0 +1,7 @@
+package br.com.movieflix.controller.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+public record RefreshTokenRequest(@Schema(type = "string", description = "Refresh token recebido no login ou na última renovação")
+                                  String refreshToken) {
+}
@@ -3,5 +3,9 @@ package br.com.movieflix.controller.response;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 public record LoginResponse(@Schema(type = "string", description = "token para login")
-                            String token) {
+                            String token,
+                            @Schema(type = "string", description = "Token de uso único para obter um novo token em /auth/refresh")
+                            String refreshToken,
+                            @Schema(type = "integer", description = "Validade do token em segundos")
+                            long expiresIn) {
 }
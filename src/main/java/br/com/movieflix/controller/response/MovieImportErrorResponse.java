@@ -0,0 +1,11 @@
+package br.com.movieflix.controller.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+
+@Builder
+public record MovieImportErrorResponse(@Schema(type = "long", description = "Número do registro no arquivo, começando em 1")
+                                       long record,
+                                       @Schema(type = "string", description = "Motivo da rejeição")
+                                       String message) {
+}
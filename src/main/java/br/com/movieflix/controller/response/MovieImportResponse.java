@@ -0,0 +1,17 @@
+package br.com.movieflix.controller.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+
+import java.util.List;
+
+@Builder
+public record MovieImportResponse(@Schema(type = "long", description = "Quantidade de filmes importados")
+                                  long imported,
+                                  @Schema(type = "long", description = "Quantidade de registros rejeitados")
+                                  long failed,
+                                  @Schema(type = "array", description = "Registros rejeitados, limitado aos primeiros erros")
+                                  List<MovieImportErrorResponse> errors,
+                                  @Schema(type = "long", description = "Duração da importação, em milissegundos")
+                                  long elapsedMillis) {
+}
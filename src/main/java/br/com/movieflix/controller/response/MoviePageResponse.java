@@ -0,0 +1,15 @@
+package br.com.movieflix.controller.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+
+import java.util.List;
+
+@Builder
+public record MoviePageResponse(@Schema(type = "array", description = "Filmes da página atual")
+                                List<MovieResponse> content,
+                                @Schema(type = "string", description = "Cursor opaco para buscar a próxima página. Nulo na última página")
+                                String nextCursor,
+                                @Schema(type = "integer", description = "Quantidade de filmes retornados na página")
+                                int size) {
+}
@@ -0,0 +1,17 @@
+package br.com.movieflix.controller.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+
+import java.util.List;
+
+@Builder
+public record MovieSearchResponse(@Schema(type = "array", description = "Filmes encontrados na página")
+                                  List<MovieResponse> content,
+                                  @Schema(type = "integer", description = "Página atual, começando em 0")
+                                  int page,
+                                  @Schema(type = "integer", description = "Tamanho da página")
+                                  int size,
+                                  @Schema(type = "boolean", description = "Indica se existe próxima página")
+                                  boolean hasNext) {
+}
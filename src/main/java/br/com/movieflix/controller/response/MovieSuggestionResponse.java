@@ -0,0 +1,13 @@
+package br.com.movieflix.controller.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+
+@Builder
+public record MovieSuggestionResponse(@Schema(type = "long", description = "Código do filme")
+                                      Long id,
+                                      @Schema(type = "string", description = "Título do filme")
+                                      String title,
+                                      @Schema(type = "double", description = "Nota do filme")
+                                      double rating) {
+}
@@ -0,0 +1,11 @@
+package br.com.movieflix.controller.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+
+@Builder
+public record ReleaseYearStatisticsResponse(@Schema(type = "integer", description = "Ano de lançamento")
+                                            int year,
+                                            @Schema(type = "long", description = "Quantidade de filmes lançados no ano")
+                                            long movies) {
+}
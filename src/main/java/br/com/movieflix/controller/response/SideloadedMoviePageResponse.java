@@ -0,0 +1,19 @@
+package br.com.movieflix.controller.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+
+import java.util.List;
+
+@Builder
+public record SideloadedMoviePageResponse(@Schema(type = "array", description = "Filmes, com categorias e streamings apenas pelo código")
+                                          List<SideloadedMovieResponse> content,
+                                          @Schema(type = "array", description = "Categorias usadas pelos filmes, uma vez cada")
+                                          List<CategoryResponse> categories,
+                                          @Schema(type = "array", description = "Serviços de streaming usados pelos filmes, uma vez cada")
+                                          List<StreamingResponse> streamings,
+                                          @Schema(type = "string", description = "Cursor opaco para buscar a próxima página. Nulo na última página ou sem paginação")
+                                          String nextCursor,
+                                          @Schema(type = "integer", description = "Quantidade de filmes retornados")
+                                          int size) {
+}
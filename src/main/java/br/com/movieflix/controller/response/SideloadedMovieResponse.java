@@ -0,0 +1,26 @@
+package br.com.movieflix.controller.response;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Builder
+public record SideloadedMovieResponse(@Schema(type = "long", description = "Código do filme")
+                                      Long id,
+                                      @Schema(type = "string", description = "Nome do filme")
+                                      String title,
+                                      @Schema(type = "string", description = "Descrição do filme")
+                                      String description,
+                                      @Schema(type = "date", description = "Data de lançamento do filme. ex: '19/10/1998'")
+                                      @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "dd/MM/yyyy")
+                                      LocalDate releaseDate,
+                                      @Schema(type = "double", description = "Score do filme. ex: '7.8'")
+                                      double rating,
+                                      @Schema(type = "array", description = "Códigos das categorias, detalhadas em 'categories' da resposta")
+                                      List<Long> categories,
+                                      @Schema(type = "array", description = "Códigos dos serviços de streaming, detalhados em 'streamings' da resposta")
+                                      List<Long> streamings) {
+}
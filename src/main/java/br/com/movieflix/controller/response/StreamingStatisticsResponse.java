@@ -0,0 +1,15 @@
+package br.com.movieflix.controller.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+
+@Builder
+public record StreamingStatisticsResponse(@Schema(type = "long", description = "Código do serviço de streaming")
+                                          Long id,
+                                          @Schema(type = "string", description = "Nome do serviço de streaming")
+                                          String name,
+                                          @Schema(type = "long", description = "Quantidade de filmes disponíveis")
+                                          long movies,
+                                          @Schema(type = "double", description = "Nota média dos filmes disponíveis")
+                                          double averageRating) {
+}
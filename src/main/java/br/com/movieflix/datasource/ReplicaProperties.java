@@ -0,0 +1,21 @@
+package br.com.movieflix.datasource;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Réplicas de leitura ({@code movieflix.datasource.*}). Sem réplicas configuradas a aplicação usa apenas o datasource padrão.
+ */
+@ConfigurationProperties("movieflix.datasource")
+public record ReplicaProperties(@DefaultValue List<Replica> replicas,
+                                @DefaultValue("5s") Duration maxReplicaLag) {
+
+    public record Replica(String url,
+                          String username,
+                          String password,
+                          @DefaultValue("10") int maximumPoolSize) {
+    }
+}
@@ -0,0 +1,47 @@
+package br.com.movieflix.datasource;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Uma escrita remove a entidade do cache de segundo nível, mas a réplica pode ainda não tê-la recebido. Se a leitura
+ * seguinte, feita na réplica, gravasse no cache, a versão antiga seria servida a todos até o TTL da região.
+ * Por isso a sessão que lê de uma réplica só consulta o cache ({@link CacheMode#GET}) até o fim da transação,
+ * e o cache passa a ser preenchido apenas por leituras no primário.
+ */
+class ReplicaReadCacheMode implements Runnable {
+
+    private final ObjectProvider<EntityManagerFactory> entityManagerFactory;
+
+    ReplicaReadCacheMode(ObjectProvider<EntityManagerFactory> entityManagerFactory){
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    @Override
+    public void run() {
+        EntityManagerFactory factory = entityManagerFactory.getIfAvailable();
+        if (factory == null || !TransactionSynchronizationManager.isSynchronizationActive()
+                || !(TransactionSynchronizationManager.getResource(factory) instanceof EntityManagerHolder holder)) {
+            return;
+        }
+
+        Session session = holder.getEntityManager().unwrap(Session.class);
+        CacheMode previous = session.getCacheMode();
+        if (previous == CacheMode.GET || previous == CacheMode.IGNORE) {
+            return;
+        }
+        session.setCacheMode(CacheMode.GET);
+        // Com open-in-view a sessão continua aberta depois da transação, e as próximas podem ir para o primário
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                session.setCacheMode(previous);
+            }
+        });
+    }
+}
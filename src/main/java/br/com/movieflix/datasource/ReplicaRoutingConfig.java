@@ -0,0 +1,109 @@
+package br.com.movieflix.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Ativada quando há ao menos uma réplica em {@code movieflix.datasource.replicas}. Substitui o datasource padrão
+ * por: LazyConnectionDataSourceProxy -> ReplicaRoutingDataSource -> (primário | réplicas).
+ * Escritas, migrations do Flyway e qualquer acesso fora de transação somente leitura continuam no primário.
+ *
+ * <p>Com o open-in-view a mesma sessão do Hibernate atende a requisição inteira; por padrão ela segura a conexão
+ * física até o fim da requisição, e uma escrita depois de uma leitura cairia na conexão da réplica. Por isso a conexão
+ * é devolvida ao fim de cada transação e a próxima transação escolhe a sua.</p>
+ *
+ * <p>Leituras feitas em réplicas não gravam no cache de segundo nível ({@link ReplicaReadCacheMode}).</p>
+ */
+@Configuration
+@EnableConfigurationProperties(ReplicaProperties.class)
+@ConditionalOnProperty(name = "movieflix.datasource.replicas[0].url")
+public class ReplicaRoutingConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties){
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(HikariDataSource primaryDataSource, DataSourceProperties properties,
+                                                             ReplicaProperties replicaProperties, MeterRegistry meterRegistry,
+                                                             ObjectProvider<EntityManagerFactory> entityManagerFactory){
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        List<ReplicaProperties.Replica> configured = replicaProperties.replicas();
+        for (int i = 0; i < configured.size(); i++) {
+            ReplicaProperties.Replica replica = configured.get(i);
+            HikariDataSource dataSource = new HikariDataSource();
+            dataSource.setPoolName("replica-" + i);
+            dataSource.setDriverClassName(properties.determineDriverClassName());
+            dataSource.setJdbcUrl(replica.url());
+            dataSource.setUsername(replica.username() == null ? properties.determineUsername() : replica.username());
+            dataSource.setPassword(replica.password() == null ? properties.determinePassword() : replica.password());
+            dataSource.setMaximumPoolSize(replica.maximumPoolSize());
+            dataSource.setReadOnly(true);
+            dataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+            replicas.put(dataSource.getPoolName(), dataSource);
+        }
+
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(primaryDataSource, replicas, replicaProperties.maxReplicaLag());
+        routing.setReplicaReadListener(new ReplicaReadCacheMode(entityManagerFactory));
+        routing.replicaStatus().forEach(status -> {
+            Gauge.builder("movieflix.datasource.replica.lag", routing, source -> lagOf(source, status.name()))
+                    .description("Atraso de replicação da réplica em segundos (-1 quando inacessível)")
+                    .tag("replica", status.name())
+                    .register(meterRegistry);
+            Gauge.builder("movieflix.datasource.replica.available", routing, source -> availableOf(source, status.name()))
+                    .description("1 quando a réplica está no rodízio de leituras")
+                    .tag("replica", status.name())
+                    .register(meterRegistry);
+        });
+        return routing;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer releaseConnectionAfterTransaction(){
+        return properties -> properties.put(AvailableSettings.CONNECTION_HANDLING,
+                PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource){
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+
+    private static double lagOf(ReplicaRoutingDataSource routing, String name){
+        return routing.replicaStatus().stream()
+                .filter(status -> status.name().equals(name))
+                .mapToDouble(ReplicaRoutingDataSource.ReplicaStatus::lagSeconds)
+                .findFirst()
+                .orElse(-1);
+    }
+
+    private static double availableOf(ReplicaRoutingDataSource routing, String name){
+        return routing.replicaStatus().stream()
+                .anyMatch(status -> status.name().equals(name) && status.available()) ? 1 : 0;
+    }
+}
@@ -0,0 +1,135 @@
+package br.com.movieflix.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Envia transações somente leitura ({@code @Transactional(readOnly = true)}) para as réplicas, em round-robin,
+ * e todo o resto para o primário.
+ *
+ * <p>Réplicas inacessíveis ou com atraso de replicação acima do limite saem do rodízio até a próxima verificação;
+ * sem réplica disponível, a leitura vai para o primário. Deve ser usado atrás de um
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}, para que a conexão seja escolhida
+ * depois que a transação já foi marcada como somente leitura.</p>
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+
+    static final String PRIMARY = "primary";
+
+    // Sem WAL pendente de replay a réplica está em dia, mesmo que a última transação replicada seja antiga
+    private static final String LAG_QUERY = """
+            select case
+                when not pg_is_in_recovery() or pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() then 0
+                else coalesce(extract(epoch from now() - pg_last_xact_replay_timestamp()), 0)
+            end
+            """;
+
+    private final List<Replica> replicas = new ArrayList<>();
+    private final Duration maxLag;
+    private final AtomicInteger next = new AtomicInteger();
+    private Runnable replicaReadListener = () -> {};
+
+    public ReplicaRoutingDataSource(DataSource primary, Map<String, DataSource> replicas, Duration maxLag){
+        this.maxLag = maxLag;
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        replicas.forEach((name, dataSource) -> {
+            targets.put(name, dataSource);
+            this.replicas.add(new Replica(name, dataSource));
+        });
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        super.afterPropertiesSet();
+        checkReplicationLag();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (replicas.isEmpty() || !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return PRIMARY;
+        }
+
+        int start = Math.floorMod(next.getAndIncrement(), replicas.size());
+        for (int i = 0; i < replicas.size(); i++) {
+            Replica replica = replicas.get((start + i) % replicas.size());
+            if (replica.available) {
+                replicaReadListener.run();
+                return replica.name;
+            }
+        }
+        return PRIMARY;
+    }
+
+    /**
+     * Executado na thread da transação sempre que uma réplica é escolhida, antes da conexão ser usada.
+     */
+    public void setReplicaReadListener(Runnable replicaReadListener){
+        this.replicaReadListener = replicaReadListener;
+    }
+
+    @Scheduled(initialDelayString = "${movieflix.datasource.lag-check-interval:PT5S}",
+            fixedDelayString = "${movieflix.datasource.lag-check-interval:PT5S}")
+    public void checkReplicationLag(){
+        for (Replica replica : replicas) {
+            try (Connection connection = replica.dataSource.getConnection();
+                 Statement statement = connection.createStatement();
+                 ResultSet resultSet = statement.executeQuery(LAG_QUERY)) {
+                resultSet.next();
+                replica.lagSeconds = resultSet.getDouble(1);
+                replica.available = replica.lagSeconds * 1000 <= maxLag.toMillis();
+            } catch (SQLException ex) {
+                replica.lagSeconds = -1;
+                replica.available = false;
+            }
+        }
+    }
+
+    public List<ReplicaStatus> replicaStatus(){
+        return replicas.stream()
+                .map(replica -> new ReplicaStatus(replica.name, replica.available, replica.lagSeconds))
+                .toList();
+    }
+
+    @Override
+    public void close() throws Exception {
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    public record ReplicaStatus(String name, boolean available, double lagSeconds) {
+    }
+
+    private static final class Replica {
+
+        private final String name;
+        private final DataSource dataSource;
+        private volatile boolean available;
+        private volatile double lagSeconds = -1;
+
+        private Replica(String name, DataSource dataSource){
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+    }
+}
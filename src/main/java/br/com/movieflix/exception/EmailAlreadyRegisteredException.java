@@ -0,0 +1,7 @@
+package br.com.movieflix.exception;
+
+public class EmailAlreadyRegisteredException extends RuntimeException {
+    public EmailAlreadyRegisteredException(String message) {
+        super(message);
+    }
+}
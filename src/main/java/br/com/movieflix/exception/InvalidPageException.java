@@ -0,0 +1,7 @@
+package br.com.movieflix.exception;
+
+public class InvalidPageException extends RuntimeException {
+    public InvalidPageException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package br.com.movieflix.exception;
+
+public class UnknownReferenceException extends RuntimeException {
+    public UnknownReferenceException(String message) {
+        super(message);
+    }
+}
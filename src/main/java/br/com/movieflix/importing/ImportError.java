@@ -0,0 +1,4 @@
+package br.com.movieflix.importing;
+
+public record ImportError(long record, String message) {
+}
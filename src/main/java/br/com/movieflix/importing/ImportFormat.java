@@ -0,0 +1,57 @@
+package br.com.movieflix.importing;
+
+import br.com.movieflix.controller.request.MovieRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import org.springframework.http.MediaType;
+
+/**
+ * Formatos aceitos na importação em lote. Todos são lidos registro a registro, sem carregar o corpo inteiro.
+ */
+public enum ImportFormat {
+
+    JSON,
+    NDJSON,
+    CSV;
+
+    public static final String NDJSON_VALUE = "application/x-ndjson";
+    public static final String CSV_VALUE = "text/csv";
+
+    private static final CsvMapper CSV_MAPPER = CsvMapper.builder().findAndAddModules().build();
+
+    // Cabeçalho obrigatório; as colunas podem vir em qualquer ordem e listas de ids usam ';' como separador
+    private static final CsvSchema CSV_SCHEMA = CsvSchema.builder()
+            .addColumn("title")
+            .addColumn("description")
+            .addColumn("releaseDate")
+            .addNumberColumn("rating")
+            .addArrayColumn("categories", ";")
+            .addArrayColumn("streamings", ";")
+            .build()
+            .withHeader()
+            .withColumnReordering(true);
+
+    public static ImportFormat fromContentType(String contentType){
+        MediaType mediaType = contentType == null ? MediaType.APPLICATION_JSON : MediaType.parseMediaType(contentType);
+        if (mediaType.equalsTypeAndSubtype(MediaType.parseMediaType(NDJSON_VALUE))) {
+            return NDJSON;
+        }
+        if (mediaType.equalsTypeAndSubtype(MediaType.parseMediaType(CSV_VALUE))) {
+            return CSV;
+        }
+        return JSON;
+    }
+
+    /**
+     * Leitor de {@link MovieRequest}. Para JSON e NDJSON o mesmo leitor serve: um array na raiz é percorrido
+     * elemento a elemento e objetos soltos são lidos em sequência.
+     */
+    public ObjectReader reader(ObjectMapper objectMapper){
+        if (this == CSV) {
+            return CSV_MAPPER.readerFor(MovieRequest.class).with(CSV_SCHEMA);
+        }
+        return objectMapper.readerFor(MovieRequest.class);
+    }
+}
@@ -0,0 +1,12 @@
+package br.com.movieflix.importing;
+
+import lombok.Builder;
+
+import java.util.List;
+
+@Builder
+public record MovieImportResult(long imported,
+                                long failed,
+                                List<ImportError> errors,
+                                long elapsedMillis) {
+}
@@ -1,15 +1,25 @@
 package br.com.movieflix.mapper;
 
 import br.com.movieflix.controller.request.MovieRequest;
+import br.com.movieflix.controller.request.MovieSearchRequest;
 import br.com.movieflix.controller.response.CategoryResponse;
 import br.com.movieflix.controller.response.MovieResponse;
+import br.com.movieflix.controller.response.MovieSuggestionResponse;
+import br.com.movieflix.controller.response.SideloadedMovieResponse;
+import br.com.movieflix.controller.response.SideloadedMoviePageResponse;
 import br.com.movieflix.controller.response.StreamingResponse;
 import br.com.movieflix.entity.Category;
 import br.com.movieflix.entity.Movie;
 import br.com.movieflix.entity.Streaming;
+import br.com.movieflix.search.MatchMode;
+import br.com.movieflix.search.MovieFilter;
+import br.com.movieflix.search.TitleEntry;
 import lombok.experimental.UtilityClass;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 @UtilityClass
 public class MovieMapper {
@@ -58,4 +68,71 @@ public class MovieMapper {
                 .build();
     }
 
+    /**
+     * Formato normalizado: cada categoria e streaming aparece uma única vez na resposta e os filmes os referenciam pelo código.
+     */
+    public static SideloadedMoviePageResponse toSideloadedMoviePageResponse(List<Movie> movies, String nextCursor){
+        Map<Long, CategoryResponse> categories = new LinkedHashMap<>();
+        Map<Long, StreamingResponse> streamings = new LinkedHashMap<>();
+        List<SideloadedMovieResponse> content = new ArrayList<>(movies.size());
+
+        for (Movie movie : movies) {
+            List<Long> categoryIds = new ArrayList<>(movie.getCategories().size());
+            for (Category category : movie.getCategories()) {
+                categories.computeIfAbsent(category.getId(), id -> CategoryMapper.toCategoryResponse(category));
+                categoryIds.add(category.getId());
+            }
+
+            List<Long> streamingIds = new ArrayList<>(movie.getStreamings().size());
+            for (Streaming streaming : movie.getStreamings()) {
+                streamings.computeIfAbsent(streaming.getId(), id -> StreamingMapper.toStreamingResponse(streaming));
+                streamingIds.add(streaming.getId());
+            }
+
+            content.add(SideloadedMovieResponse.builder()
+                    .id(movie.getId())
+                    .title(movie.getTitle())
+                    .description(movie.getDescription())
+                    .releaseDate(movie.getReleaseDate())
+                    .rating(movie.getRating())
+                    .categories(categoryIds)
+                    .streamings(streamingIds)
+                    .build());
+        }
+
+        return SideloadedMoviePageResponse.builder()
+                .content(content)
+                .categories(List.copyOf(categories.values()))
+                .streamings(List.copyOf(streamings.values()))
+                .nextCursor(nextCursor)
+                .size(content.size())
+                .build();
+    }
+
+    public static MovieSuggestionResponse toMovieSuggestionResponse(TitleEntry entry){
+        return MovieSuggestionResponse.builder()
+                .id(entry.id())
+                .title(entry.title())
+                .rating(entry.rating())
+                .build();
+    }
+
+    public static MovieFilter toMovieFilter(MovieSearchRequest request){
+        return MovieFilter
+                .builder()
+                .categories(distinct(request.categories()))
+                .categoryMatch(request.categoryMatch() == null ? MatchMode.ANY : request.categoryMatch())
+                .streamings(distinct(request.streamings()))
+                .streamingMatch(request.streamingMatch() == null ? MatchMode.ANY : request.streamingMatch())
+                .minRating(request.minRating())
+                .maxRating(request.maxRating())
+                .minReleaseDate(request.minReleaseDate())
+                .maxReleaseDate(request.maxReleaseDate())
+                .build();
+    }
+
+    private static List<Long> distinct(List<Long> ids){
+        return ids == null ? List.of() : ids.stream().distinct().toList();
+    }
+
 }
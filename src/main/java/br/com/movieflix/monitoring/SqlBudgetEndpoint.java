@@ -0,0 +1,31 @@
+package br.com.movieflix.monitoring;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Últimas requisições acima do orçamento de SQL, em /actuator/sqlbudget. Fica na porta de gerenciamento, e não na API,
+ * porque expõe o texto dos SQLs e permite apagar o registro.
+ */
+@Component
+@RequiredArgsConstructor
+@Endpoint(id = "sqlbudget")
+public class SqlBudgetEndpoint {
+
+    private final SqlOffenders sqlOffenders;
+
+    @ReadOperation
+    public List<SqlOffender> offenders(){
+        return sqlOffenders.latest();
+    }
+
+    @DeleteOperation
+    public void clear(){
+        sqlOffenders.clear();
+    }
+}
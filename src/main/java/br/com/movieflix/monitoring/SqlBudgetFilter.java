@@ -0,0 +1,98 @@
+package br.com.movieflix.monitoring;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Acompanha os statements SQL de cada requisição e registra as que passam do orçamento: quantidade de statements,
+ * tempo total no banco ou o mesmo SQL repetido muitas vezes (N+1).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SqlBudgetFilter extends OncePerRequestFilter {
+
+    private static final int MAX_STATEMENT_LENGTH = 300;
+
+    private final SqlOffenders sqlOffenders;
+
+    @Value("${movieflix.sql-budget.max-statements:20}")
+    private int maxStatements;
+
+    @Value("${movieflix.sql-budget.max-db-time:200ms}")
+    private Duration maxDbTime;
+
+    @Value("${movieflix.sql-budget.max-repeated-statements:10}")
+    private int maxRepeatedStatements;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        long start = System.nanoTime();
+        SqlRequestContext context = SqlRequestContext.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            SqlRequestContext.clear();
+            this.check(request, response, context, System.nanoTime() - start);
+        }
+    }
+
+    private void check(HttpServletRequest request, HttpServletResponse response, SqlRequestContext context, long requestNanos){
+        Map.Entry<String, Integer> mostRepeated = context.mostRepeatedStatement();
+        int repeated = mostRepeated == null ? 0 : mostRepeated.getValue();
+        long dbTimeMillis = context.executionNanos() / 1_000_000;
+
+        List<String> violations = new ArrayList<>();
+        if (context.statements() > maxStatements) {
+            violations.add("statements");
+        }
+        if (dbTimeMillis > maxDbTime.toMillis()) {
+            violations.add("db-time");
+        }
+        if (repeated > maxRepeatedStatements) {
+            violations.add("repeated-statement");
+        }
+        if (violations.isEmpty()) {
+            return;
+        }
+
+        SqlOffender offender = SqlOffender.builder()
+                .timestamp(Instant.now())
+                .method(request.getMethod())
+                .path(request.getRequestURI())
+                .status(response.getStatus())
+                .statements(context.statements())
+                .dbTimeMillis(dbTimeMillis)
+                .requestTimeMillis(requestNanos / 1_000_000)
+                .mostRepeatedStatement(mostRepeated == null ? null : abbreviate(mostRepeated.getKey()))
+                .mostRepeatedCount(repeated)
+                .violations(violations)
+                .build();
+        sqlOffenders.add(offender);
+
+        log.warn("sql_budget_exceeded method={} path={} status={} statements={} db_time_ms={} request_time_ms={} " +
+                        "most_repeated_count={} violations={} most_repeated_sql=\"{}\"",
+                offender.method(), offender.path(), offender.status(), offender.statements(), offender.dbTimeMillis(),
+                offender.requestTimeMillis(), offender.mostRepeatedCount(), String.join(",", violations),
+                offender.mostRepeatedStatement());
+    }
+
+    private static String abbreviate(String sql){
+        String singleLine = sql.replaceAll("\\s+", " ").trim();
+        return singleLine.length() <= MAX_STATEMENT_LENGTH ? singleLine : singleLine.substring(0, MAX_STATEMENT_LENGTH) + "...";
+    }
+}
@@ -0,0 +1,97 @@
+package br.com.movieflix.monitoring;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Conta e cronometra os statements da requisição atual no nível do JDBC, então entram no orçamento tanto os do
+ * Hibernate quanto os do JdbcTemplate (versão do catálogo, estatísticas, importação em lote).
+ *
+ * <p>Statements preparados contam uma vez, no prepare, mesmo quando executados em lote; statements simples contam a
+ * cada SQL executado ou adicionado ao lote. O tempo é o das chamadas {@code execute*}. Sem requisição em andamento os
+ * statements não são envolvidos.</p>
+ */
+public class SqlCountingDataSource extends DelegatingDataSource {
+
+    public SqlCountingDataSource(DataSource targetDataSource){
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return proxy(Connection.class, super.getConnection(), SqlCountingDataSource::connectionCall);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return proxy(Connection.class, super.getConnection(username, password), SqlCountingDataSource::connectionCall);
+    }
+
+    private static Object connectionCall(Object target, Method method, Object[] args) throws Throwable {
+        Object result = invoke(target, method, args);
+        SqlRequestContext context = SqlRequestContext.current();
+        if (context == null || !(result instanceof Statement statement)) {
+            return result;
+        }
+
+        if (args != null && args.length > 0 && args[0] instanceof String sql) {
+            // prepareStatement e prepareCall
+            context.statementPrepared(sql);
+        }
+        return proxy(method.getReturnType(), statement, SqlCountingDataSource::statementCall);
+    }
+
+    private static Object statementCall(Object target, Method method, Object[] args) throws Throwable {
+        String name = method.getName();
+        boolean plainSql = !(target instanceof PreparedStatement) && args != null && args.length > 0
+                && args[0] instanceof String;
+        SqlRequestContext context = SqlRequestContext.current();
+
+        if (context != null && plainSql && (name.startsWith("execute") || name.equals("addBatch"))) {
+            context.statementPrepared((String) args[0]);
+        }
+        if (context == null || !name.startsWith("execute")) {
+            return invoke(target, method, args);
+        }
+
+        long start = System.nanoTime();
+        try {
+            return invoke(target, method, args);
+        } finally {
+            context.statementExecuted(System.nanoTime() - start);
+        }
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, Object target, Call call){
+        InvocationHandler handler = (proxy, method, args) -> switch (method.getName()) {
+            // Identidade do proxy: o pool e o Spring comparam a conexão recebida com a que está vinculada à transação
+            case "equals" -> proxy == args[0];
+            case "hashCode" -> System.identityHashCode(proxy);
+            default -> call.invoke(target, method, args);
+        };
+        return (T) Proxy.newProxyInstance(SqlCountingDataSource.class.getClassLoader(), new Class<?>[]{type}, handler);
+    }
+
+    @FunctionalInterface
+    private interface Call {
+        Object invoke(Object target, Method method, Object[] args) throws Throwable;
+    }
+}
@@ -0,0 +1,24 @@
+package br.com.movieflix.monitoring;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+/**
+ * Envolve o datasource da aplicação (o do Spring Boot ou, com réplicas, o roteador) em um {@link SqlCountingDataSource}.
+ * Só o bean {@code dataSource} é envolvido: os pools por trás do roteador contariam os mesmos statements de novo.
+ */
+@Component
+public class SqlCountingDataSourcePostProcessor implements BeanPostProcessor {
+
+    private static final String DATA_SOURCE_BEAN = "dataSource";
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName){
+        if (bean instanceof DataSource dataSource && DATA_SOURCE_BEAN.equals(beanName)) {
+            return new SqlCountingDataSource(dataSource);
+        }
+        return bean;
+    }
+}
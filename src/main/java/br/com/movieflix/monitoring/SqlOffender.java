@@ -0,0 +1,19 @@
+package br.com.movieflix.monitoring;
+
+import lombok.Builder;
+
+import java.time.Instant;
+import java.util.List;
+
+@Builder
+public record SqlOffender(Instant timestamp,
+                          String method,
+                          String path,
+                          int status,
+                          int statements,
+                          long dbTimeMillis,
+                          long requestTimeMillis,
+                          String mostRepeatedStatement,
+                          int mostRepeatedCount,
+                          List<String> violations) {
+}
@@ -0,0 +1,39 @@
+package br.com.movieflix.monitoring;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Últimas requisições que estouraram o orçamento de SQL, em um buffer circular de tamanho fixo.
+ */
+@Component
+public class SqlOffenders {
+
+    private final int capacity;
+    private final Deque<SqlOffender> offenders;
+
+    public SqlOffenders(@Value("${movieflix.sql-budget.offenders:100}") int capacity){
+        this.capacity = capacity;
+        this.offenders = new ArrayDeque<>(capacity);
+    }
+
+    public synchronized void add(SqlOffender offender){
+        if (offenders.size() == capacity) {
+            offenders.removeLast();
+        }
+        offenders.addFirst(offender);
+    }
+
+    public synchronized List<SqlOffender> latest(){
+        return new ArrayList<>(offenders);
+    }
+
+    public synchronized void clear(){
+        offenders.clear();
+    }
+}
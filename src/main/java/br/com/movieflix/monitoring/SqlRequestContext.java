@@ -0,0 +1,58 @@
+package br.com.movieflix.monitoring;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Contadores de SQL da requisição em andamento na thread atual. Fora de uma requisição (tarefas agendadas,
+ * escrita assíncrona da exportação) não há contexto e os statements não são contabilizados.
+ */
+final class SqlRequestContext {
+
+    private static final ThreadLocal<SqlRequestContext> CURRENT = new ThreadLocal<>();
+
+    private int statements;
+    private long executionNanos;
+    private final Map<String, Integer> statementCounts = new HashMap<>();
+
+    static SqlRequestContext start(){
+        SqlRequestContext context = new SqlRequestContext();
+        CURRENT.set(context);
+        return context;
+    }
+
+    static SqlRequestContext current(){
+        return CURRENT.get();
+    }
+
+    static void clear(){
+        CURRENT.remove();
+    }
+
+    void statementPrepared(String sql){
+        statements++;
+        statementCounts.merge(sql, 1, Integer::sum);
+    }
+
+    void statementExecuted(long nanos){
+        executionNanos += nanos;
+    }
+
+    int statements(){
+        return statements;
+    }
+
+    long executionNanos(){
+        return executionNanos;
+    }
+
+    /**
+     * Statement mais repetido da requisição; muitas repetições do mesmo SQL é o sintoma típico de N+1.
+     */
+    Map.Entry<String, Integer> mostRepeatedStatement(){
+        return statementCounts.entrySet()
+                .stream()
+                .max(Map.Entry.comparingByValue())
+                .orElse(null);
+    }
+}
@@ -0,0 +1,10 @@
+package br.com.movieflix.pagination;
+
+import java.util.List;
+
+public record CursorPage<T>(List<T> content, String nextCursor) {
+
+    public boolean hasNext(){
+        return nextCursor != null;
+    }
+}
@@ -0,0 +1,63 @@
+package br.com.movieflix.pagination;
+
+import br.com.movieflix.entity.Movie;
+import br.com.movieflix.exception.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Posição de leitura opaca para a paginação por keyset: guarda a ordenação usada
+ * e a chave (valor ordenado, id) do último filme entregue ao cliente.
+ */
+public record MovieCursor(MovieSort sort, String value, Long id) {
+
+    private static final String SEPARATOR = "|";
+
+    public static MovieCursor after(MovieSort sort, Movie movie){
+        String value = switch (sort) {
+            case ID -> "";
+            case RATING -> Double.toString(movie.getRating());
+            case RELEASE_DATE -> movie.getReleaseDate() == null ? "" : movie.getReleaseDate().toString();
+        };
+        return new MovieCursor(sort, value, movie.getId());
+    }
+
+    public static MovieCursor decode(String token){
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + SEPARATOR, -1);
+            if (parts.length != 3) {
+                throw new InvalidCursorException("Cursor inválido.");
+            }
+            MovieCursor cursor = new MovieCursor(MovieSort.valueOf(parts[0]), parts[1], Long.parseLong(parts[2]));
+            cursor.validate();
+            return cursor;
+        } catch (IllegalArgumentException | DateTimeParseException ex) {
+            throw new InvalidCursorException("Cursor inválido.");
+        }
+    }
+
+    public String encode(){
+        String raw = sort.name() + SEPARATOR + value + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public double rating(){
+        return Double.parseDouble(value);
+    }
+
+    public LocalDate releaseDate(){
+        return value.isEmpty() ? null : LocalDate.parse(value);
+    }
+
+    private void validate(){
+        switch (sort) {
+            case RATING -> rating();
+            case RELEASE_DATE -> releaseDate();
+            default -> { }
+        }
+    }
+}
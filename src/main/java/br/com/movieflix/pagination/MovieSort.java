@@ -0,0 +1,7 @@
+package br.com.movieflix.pagination;
+
+public enum MovieSort {
+    ID,
+    RATING,
+    RELEASE_DATE
+}
@@ -0,0 +1,6 @@
+package br.com.movieflix.pagination;
+
+import java.util.List;
+
+public record OffsetPage<T>(List<T> content, int page, int size, boolean hasNext) {
+}
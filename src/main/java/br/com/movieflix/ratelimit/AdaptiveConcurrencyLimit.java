@@ -0,0 +1,60 @@
+package br.com.movieflix.ratelimit;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Limite de concorrência AIMD: cresce uma unidade quando uma requisição termina abaixo da latência alvo com o limite
+ * ao menos meio ocupado, e cai 10% quando termina acima, no máximo uma vez por janela de latência alvo
+ * (uma rajada de respostas lentas da mesma fila não derruba o limite várias vezes seguidas).
+ */
+final class AdaptiveConcurrencyLimit {
+
+    private static final double DECREASE_FACTOR = 0.9;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final long targetLatencyNanos;
+    private final AtomicInteger limit;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLong lastDecrease = new AtomicLong(System.nanoTime());
+
+    AdaptiveConcurrencyLimit(int initialLimit, int minLimit, int maxLimit, long targetLatencyNanos){
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.targetLatencyNanos = targetLatencyNanos;
+        this.limit = new AtomicInteger(Math.min(Math.max(initialLimit, minLimit), maxLimit));
+    }
+
+    boolean tryAcquire(){
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit.get()) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    void release(long latencyNanos, long nowNanos){
+        int concurrent = inFlight.getAndDecrement();
+        if (latencyNanos > targetLatencyNanos) {
+            long last = lastDecrease.get();
+            if (nowNanos - last > targetLatencyNanos && lastDecrease.compareAndSet(last, nowNanos)) {
+                limit.updateAndGet(current -> Math.max(minLimit, (int) (current * DECREASE_FACTOR)));
+            }
+        } else if (concurrent * 2 >= limit.get()) {
+            limit.updateAndGet(current -> Math.min(maxLimit, current + 1));
+        }
+    }
+
+    int limit(){
+        return limit.get();
+    }
+
+    int inFlight(){
+        return inFlight.get();
+    }
+}
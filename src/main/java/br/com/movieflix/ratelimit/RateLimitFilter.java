@@ -0,0 +1,167 @@
+package br.com.movieflix.ratelimit;
+
+import br.com.movieflix.config.JWTUserData;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Roda depois do {@link br.com.movieflix.config.SecurityFilter}: requisições autenticadas são limitadas pelo id do
+ * usuário do token e as anônimas (login, cadastro) pelo IP. Aplica, nesta ordem, o token bucket da política do endpoint
+ * (429 com Retry-After) e o limite adaptativo de concorrência (503).
+ */
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final String RATE = "rate";
+    private static final String CONCURRENCY = "concurrency";
+
+    private final RateLimitProperties properties;
+    private final List<Policy> policies;
+    private final List<PathPattern> exclusions;
+    private final List<PathPattern> concurrencyExclusions;
+    private final Cache<String, TokenBucket> buckets;
+    private final AdaptiveConcurrencyLimit concurrencyLimit;
+    private final Map<String, Counter> rateRejections = new HashMap<>();
+    private final Counter concurrencyRejections;
+
+    public RateLimitFilter(RateLimitProperties properties, MeterRegistry meterRegistry){
+        this.properties = properties;
+        this.policies = properties.policies().stream()
+                .map(policy -> new Policy(policy, PathPatternParser.defaultInstance.parse(policy.pattern())))
+                .toList();
+        this.exclusions = properties.exclude().stream()
+                .map(PathPatternParser.defaultInstance::parse)
+                .toList();
+        this.concurrencyExclusions = properties.concurrency().exclude().stream()
+                .map(PathPatternParser.defaultInstance::parse)
+                .toList();
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(properties.maxClients())
+                .expireAfterAccess(Duration.ofMinutes(10))
+                .build();
+
+        RateLimitProperties.Concurrency concurrency = properties.concurrency();
+        this.concurrencyLimit = new AdaptiveConcurrencyLimit(concurrency.initialLimit(), concurrency.minLimit(),
+                concurrency.maxLimit(), concurrency.targetLatency().toNanos());
+
+        policies.forEach(policy -> rateRejections.put(policy.name(), rejectionCounter(meterRegistry, RATE, policy.name())));
+        this.concurrencyRejections = rejectionCounter(meterRegistry, CONCURRENCY, CONCURRENCY);
+        Gauge.builder("movieflix.ratelimit.concurrency.limit", concurrencyLimit, AdaptiveConcurrencyLimit::limit)
+                .description("Limite atual de requisições simultâneas")
+                .register(meterRegistry);
+        Gauge.builder("movieflix.ratelimit.concurrency.in-flight", concurrencyLimit, AdaptiveConcurrencyLimit::inFlight)
+                .description("Requisições em andamento dentro do limite de concorrência")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.enabled() || "OPTIONS".equals(request.getMethod())
+                || exclusions.stream().anyMatch(pattern -> pattern.matches(path(request)));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        PathContainer path = path(request);
+
+        Policy policy = this.findPolicy(request.getMethod(), path);
+        if (policy != null) {
+            TokenBucket bucket = buckets.get(policy.name() + ":" + clientKey(request),
+                    key -> new TokenBucket(policy.requestsPerSecond(), policy.burst(), System.nanoTime()));
+            long waitNanos = bucket.tryAcquire(System.nanoTime());
+            if (waitNanos > 0) {
+                rateRejections.get(policy.name()).increment();
+                reject(response, HttpStatus.TOO_MANY_REQUESTS, Math.ceilDiv(waitNanos, 1_000_000_000L),
+                        "Limite de requisições excedido, tente novamente em instantes");
+                return;
+            }
+        }
+
+        if (!properties.concurrency().enabled() || concurrencyExclusions.stream().anyMatch(pattern -> pattern.matches(path))) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        if (!concurrencyLimit.tryAcquire()) {
+            concurrencyRejections.increment();
+            reject(response, HttpStatus.SERVICE_UNAVAILABLE, 1, "Servidor ocupado, tente novamente em instantes");
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            long end = System.nanoTime();
+            concurrencyLimit.release(end - start, end);
+        }
+    }
+
+    private Policy findPolicy(String method, PathContainer path){
+        for (Policy policy : policies) {
+            if ((policy.method() == null || policy.method().equalsIgnoreCase(method)) && policy.pattern().matches(path)) {
+                return policy;
+            }
+        }
+        return null;
+    }
+
+    private static PathContainer path(HttpServletRequest request){
+        return PathContainer.parsePath(request.getRequestURI().substring(request.getContextPath().length()));
+    }
+
+    private static String clientKey(HttpServletRequest request){
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof JWTUserData userData) {
+            return "user:" + userData.id();
+        }
+        // Atrás de um proxy, configure server.forward-headers-strategy para que este seja o IP do cliente
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    private static void reject(HttpServletResponse response, HttpStatus status, long retryAfterSeconds, String message) throws IOException {
+        response.setStatus(status.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(retryAfterSeconds, 1)));
+        response.setContentType(MediaType.TEXT_PLAIN_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.getWriter().write(message);
+    }
+
+    private static Counter rejectionCounter(MeterRegistry meterRegistry, String reason, String policy){
+        return Counter.builder("movieflix.ratelimit.rejected")
+                .description("Requisições recusadas pelo limite de taxa (429) ou de concorrência (503)")
+                .tag("reason", reason)
+                .tag("policy", policy)
+                .register(meterRegistry);
+    }
+
+    private record Policy(String name, PathPattern pattern, String method, double requestsPerSecond, int burst) {
+
+        private Policy(RateLimitProperties.Policy policy, PathPattern pattern){
+            this(policy.name(), pattern, policy.method(), policy.requestsPerSecond(), policy.burst());
+        }
+    }
+}
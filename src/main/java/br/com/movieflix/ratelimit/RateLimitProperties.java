@@ -0,0 +1,48 @@
+package br.com.movieflix.ratelimit;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Limites de requisições ({@code movieflix.rate-limit.*}).
+ *
+ * @param policies   orçamentos por endpoint, avaliados em ordem; vale a primeira política cujo padrão (e método) casar
+ * @param maxClients quantidade máxima de buckets (cliente x política) mantidos em memória
+ * @param exclude    padrões fora de qualquer limite, como os endpoints do actuator: health checks e coleta de métricas
+ *                   precisam responder justamente quando a aplicação está sob carga
+ */
+@ConfigurationProperties("movieflix.rate-limit")
+public record RateLimitProperties(@DefaultValue("true") boolean enabled,
+                                  @DefaultValue("100000") int maxClients,
+                                  @DefaultValue List<Policy> policies,
+                                  @DefaultValue("/actuator/**") List<String> exclude,
+                                  @DefaultValue Concurrency concurrency) {
+
+    /**
+     * Token bucket por cliente (usuário autenticado ou IP): {@code requestsPerSecond} de taxa sustentada
+     * e rajadas de até {@code burst} requisições.
+     */
+    public record Policy(String name,
+                         String pattern,
+                         String method,
+                         double requestsPerSecond,
+                         int burst) {
+    }
+
+    /**
+     * Limite global de requisições simultâneas, ajustado pela latência: diminui quando as respostas passam de
+     * {@code targetLatency} e volta a crescer quando estão abaixo, recusando com 503 antes de esgotar o pool do banco.
+     *
+     * @param exclude padrões fora do limite, como exportação e importação, que duram minutos de propósito
+     */
+    public record Concurrency(@DefaultValue("true") boolean enabled,
+                              @DefaultValue("50") int initialLimit,
+                              @DefaultValue("10") int minLimit,
+                              @DefaultValue("200") int maxLimit,
+                              @DefaultValue("500ms") Duration targetLatency,
+                              @DefaultValue List<String> exclude) {
+    }
+}
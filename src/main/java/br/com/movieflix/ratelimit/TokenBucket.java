@@ -0,0 +1,38 @@
+package br.com.movieflix.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token bucket sem locks, na forma GCRA: em vez de contar tokens, guarda o instante teórico em que o bucket
+ * estará cheio de novo. Cada requisição empurra esse instante em um intervalo de emissão (1 / taxa) e é aceita
+ * enquanto ele não passar {@code burst} intervalos à frente de agora. Todo o estado é um único AtomicLong.
+ */
+final class TokenBucket {
+
+    private final long emissionIntervalNanos;
+    private final long capacityNanos;
+    private final AtomicLong theoreticalArrival;
+
+    TokenBucket(double requestsPerSecond, int burst, long nowNanos){
+        this.emissionIntervalNanos = (long) (1_000_000_000L / requestsPerSecond);
+        this.capacityNanos = emissionIntervalNanos * Math.max(burst, 1);
+        this.theoreticalArrival = new AtomicLong(nowNanos);
+    }
+
+    /**
+     * @return 0 quando a requisição foi aceita, ou quantos nanos faltam para haver um token
+     */
+    long tryAcquire(long nowNanos){
+        while (true) {
+            long current = theoreticalArrival.get();
+            long next = Math.max(current, nowNanos) + emissionIntervalNanos;
+            long waitNanos = next - nowNanos - capacityNanos;
+            if (waitNanos > 0) {
+                return waitNanos;
+            }
+            if (theoreticalArrival.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package br.com.movieflix.repository;
+
+import br.com.movieflix.statistics.RatingSummary;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Agregações completas do catálogo, usadas apenas para (re)construir os contadores em memória.
+ */
+@Repository
+@RequiredArgsConstructor
+public class CatalogStatisticsRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public long countMovies(){
+        Long count = jdbcTemplate.queryForObject("select count(*) from movie", Long.class);
+        return count == null ? 0 : count;
+    }
+
+    public Map<Long, Long> countMoviesPerCategory(){
+        Map<Long, Long> counts = new HashMap<>();
+        jdbcTemplate.query("select category_id, count(*) from movie_category group by category_id",
+                rs -> { counts.put(rs.getLong(1), rs.getLong(2)); });
+        return counts;
+    }
+
+    public Map<Long, RatingSummary> summarizeRatingPerStreaming(){
+        Map<Long, RatingSummary> summaries = new HashMap<>();
+        jdbcTemplate.query("""
+                select ms.streaming_id, count(*), coalesce(sum(m.rating), 0)
+                from movie_streaming ms
+                join movie m on m.id = ms.movie_id
+                group by ms.streaming_id
+                """, rs -> { summaries.put(rs.getLong(1), new RatingSummary(rs.getLong(2), rs.getDouble(3))); });
+        return summaries;
+    }
+
+    public Map<Integer, Long> countReleasesPerYear(){
+        Map<Integer, Long> counts = new HashMap<>();
+        jdbcTemplate.query("""
+                select cast(extract(year from release_date) as integer), count(*)
+                from movie
+                where release_date is not null
+                group by 1
+                """, rs -> { counts.put(rs.getInt(1), rs.getLong(2)); });
+        return counts;
+    }
+}
@@ -0,0 +1,51 @@
+package br.com.movieflix.repository;
+
+import br.com.movieflix.versioning.CatalogVersion;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Linha única com a versão da listagem de filmes.
+ *
+ * <p>O incremento bloqueia a linha até o commit, então as escritas do catálogo são ordenadas por ele; deve ser
+ * a última instrução da transação para segurar o bloqueio o mínimo possível. O {@code clock_timestamp()} marca o
+ * momento do incremento (e não o início da transação), mantendo a data sempre crescente.</p>
+ */
+@Repository
+@RequiredArgsConstructor
+public class CatalogVersionRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public CatalogVersion find(){
+        return jdbcTemplate.queryForObject("""
+                select version, updated_at, reference_version, reference_updated_at
+                from catalog_version
+                where id = 1
+                """,
+                (rs, rowNum) -> new CatalogVersion(rs.getLong("version"), rs.getTimestamp("updated_at").toLocalDateTime(),
+                        rs.getLong("reference_version"), rs.getTimestamp("reference_updated_at").toLocalDateTime()));
+    }
+
+    public void increment(){
+        jdbcTemplate.update("""
+                update catalog_version
+                set version = version + 1, updated_at = greatest(updated_at, clock_timestamp())
+                where id = 1
+                """);
+    }
+
+    /**
+     * Incremento para escritas de categorias e streamings: além da listagem, muda a versão de todos os filmes.
+     */
+    public void incrementReferences(){
+        jdbcTemplate.update("""
+                update catalog_version
+                set version = version + 1, updated_at = greatest(updated_at, clock_timestamp()),
+                    reference_version = reference_version + 1,
+                    reference_updated_at = greatest(reference_updated_at, clock_timestamp())
+                where id = 1
+                """);
+    }
+}
@@ -0,0 +1,74 @@
+package br.com.movieflix.repository;
+
+import br.com.movieflix.entity.Category;
+import br.com.movieflix.entity.Movie;
+import br.com.movieflix.entity.Streaming;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Escrita em lote de filmes via JDBC, usada pela importação.
+ *
+ * <p>O id IDENTITY desabilita o batch do Hibernate, então os ids são reservados de uma vez na sequence da tabela
+ * e os filmes e as associações são inseridos com batch JDBC.</p>
+ */
+@Repository
+@RequiredArgsConstructor
+public class MovieBulkRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public List<Long> nextMovieIds(int count){
+        return jdbcTemplate.queryForList(
+                "select nextval(pg_get_serial_sequence('movie', 'id')) from generate_series(1, ?)", Long.class, count);
+    }
+
+    /**
+     * Insere filmes que já têm id, junto com as categorias e streamings associados.
+     */
+    public void insertAll(List<Movie> movies){
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate("""
+                insert into movie (id, title, description, release_date, rating, created_at, updated_at)
+                values (?, ?, ?, ?, ?, ?, ?)
+                """, movies, movies.size(), (ps, movie) -> {
+            ps.setLong(1, movie.getId());
+            ps.setString(2, movie.getTitle());
+            ps.setString(3, movie.getDescription());
+            ps.setObject(4, movie.getReleaseDate());
+            ps.setDouble(5, movie.getRating());
+            ps.setTimestamp(6, now);
+            ps.setTimestamp(7, now);
+        });
+
+        List<long[]> categories = new ArrayList<>();
+        List<long[]> streamings = new ArrayList<>();
+        for (Movie movie : movies) {
+            for (Category category : movie.getCategories()) {
+                categories.add(new long[]{movie.getId(), category.getId()});
+            }
+            for (Streaming streaming : movie.getStreamings()) {
+                streamings.add(new long[]{movie.getId(), streaming.getId()});
+            }
+        }
+
+        insertLinks("insert into movie_category (movie_id, category_id) values (?, ?)", categories);
+        insertLinks("insert into movie_streaming (movie_id, streaming_id) values (?, ?)", streamings);
+    }
+
+    private void insertLinks(String sql, List<long[]> links){
+        if (links.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(sql, links, links.size(), (ps, link) -> {
+            ps.setLong(1, link[0]);
+            ps.setLong(2, link[1]);
+        });
+    }
+}
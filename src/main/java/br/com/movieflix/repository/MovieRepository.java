@@ -2,12 +2,64 @@ package br.com.movieflix.repository;
 
 import br.com.movieflix.entity.Category;
 import br.com.movieflix.entity.Movie;
+import br.com.movieflix.search.TitleEntry;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @Repository
-public interface MovieRepository extends JpaRepository<Movie, Long> {
+public interface MovieRepository extends JpaRepository<Movie, Long>, MovieRepositoryCustom {
     List<Movie> findMovieByCategories(List<Category> categories);
+
+    List<Movie> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    List<Movie> findByOrderByRatingDescIdAsc(Limit limit);
+
+    @Query("""
+            select m from Movie m
+            where m.rating < :rating or (m.rating = :rating and m.id > :id)
+            order by m.rating desc, m.id asc
+            """)
+    List<Movie> findNextByRating(@Param("rating") double rating, @Param("id") Long id, Limit limit);
+
+    @Query("""
+            select m from Movie m
+            where m.releaseDate is not null
+            order by m.releaseDate desc nulls last, m.id asc
+            """)
+    List<Movie> findFirstByReleaseDate(Limit limit);
+
+    @Query("""
+            select m from Movie m
+            where m.releaseDate < :releaseDate or (m.releaseDate = :releaseDate and m.id > :id)
+            order by m.releaseDate desc nulls last, m.id asc
+            """)
+    List<Movie> findNextByReleaseDate(@Param("releaseDate") LocalDate releaseDate, @Param("id") Long id, Limit limit);
+
+    @Query("""
+            select m from Movie m
+            where m.releaseDate is null and m.id > :id
+            order by m.id asc
+            """)
+    List<Movie> findNextWithoutReleaseDate(@Param("id") Long id, Limit limit);
+
+    @Query(value = """
+            select m.* from movie m
+            where m.search_vector @@ to_tsquery('simple', :query)
+            order by ts_rank(m.search_vector, to_tsquery('simple', :query)) desc, m.id asc
+            limit :limit offset :offset
+            """, nativeQuery = true)
+    List<Movie> searchByText(@Param("query") String query, @Param("offset") int offset, @Param("limit") int limit);
+
+    @Query("""
+            select new br.com.movieflix.search.TitleEntry(m.id, m.title, m.rating) from Movie m
+            where m.id > :id
+            order by m.id asc
+            """)
+    List<TitleEntry> findTitlesAfter(@Param("id") Long id, Limit limit);
 }
@@ -0,0 +1,11 @@
+package br.com.movieflix.repository;
+
+import br.com.movieflix.entity.Movie;
+import br.com.movieflix.pagination.MovieSort;
+import br.com.movieflix.search.MovieFilter;
+
+import java.util.List;
+
+public interface MovieRepositoryCustom {
+    List<Movie> search(MovieFilter filter, MovieSort sort, int offset, int limit);
+}
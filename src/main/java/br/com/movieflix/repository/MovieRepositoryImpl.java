@@ -0,0 +1,72 @@
+package br.com.movieflix.repository;
+
+import br.com.movieflix.entity.Movie;
+import br.com.movieflix.pagination.MovieSort;
+import br.com.movieflix.search.MatchMode;
+import br.com.movieflix.search.MovieFilter;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class MovieRepositoryImpl implements MovieRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Movie> search(MovieFilter filter, MovieSort sort, int offset, int limit){
+        StringBuilder jpql = new StringBuilder("select m from Movie m where 1 = 1");
+        Map<String, Object> parameters = new HashMap<>();
+
+        // Associações filtradas com subconsultas correlacionadas: usam os índices das tabelas de junção
+        // e não multiplicam as linhas de filme, dispensando distinct
+        if (filter.hasCategories()) {
+            appendAssociation(jpql, parameters, "categories", filter.categories(), filter.categoryMatch());
+        }
+        if (filter.hasStreamings()) {
+            appendAssociation(jpql, parameters, "streamings", filter.streamings(), filter.streamingMatch());
+        }
+        appendRange(jpql, parameters, "m.rating", "minRating", ">=", filter.minRating());
+        appendRange(jpql, parameters, "m.rating", "maxRating", "<=", filter.maxRating());
+        appendRange(jpql, parameters, "m.releaseDate", "minReleaseDate", ">=", filter.minReleaseDate());
+        appendRange(jpql, parameters, "m.releaseDate", "maxReleaseDate", "<=", filter.maxReleaseDate());
+
+        jpql.append(switch (sort) {
+            case ID -> " order by m.id asc";
+            case RATING -> " order by m.rating desc, m.id asc";
+            case RELEASE_DATE -> " order by m.releaseDate desc nulls last, m.id asc";
+        });
+
+        TypedQuery<Movie> query = entityManager.createQuery(jpql.toString(), Movie.class);
+        parameters.forEach(query::setParameter);
+        return query
+                .setFirstResult(offset)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    private void appendAssociation(StringBuilder jpql, Map<String, Object> parameters, String association,
+                                   List<Long> ids, MatchMode matchMode){
+        if (matchMode == MatchMode.ALL) {
+            jpql.append(" and (select count(a) from m.").append(association).append(" a where a.id in :")
+                    .append(association).append(") = :").append(association).append("Count");
+            parameters.put(association + "Count", (long) ids.size());
+        } else {
+            jpql.append(" and exists (select 1 from m.").append(association).append(" a where a.id in :")
+                    .append(association).append(")");
+        }
+        parameters.put(association, ids);
+    }
+
+    private void appendRange(StringBuilder jpql, Map<String, Object> parameters, String path, String name,
+                             String operator, Object value){
+        if (value != null) {
+            jpql.append(" and ").append(path).append(' ').append(operator).append(" :").append(name);
+            parameters.put(name, value);
+        }
+    }
+}
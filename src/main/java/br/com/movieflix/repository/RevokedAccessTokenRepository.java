@@ -0,0 +1,24 @@
+package br.com.movieflix.repository;
+
+import br.com.movieflix.entity.RevokedAccessToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface RevokedAccessTokenRepository extends JpaRepository<RevokedAccessToken, UUID> {
+
+    List<RevokedAccessToken> findByExpiresAtAfter(LocalDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query("delete from RevokedAccessToken r where r.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
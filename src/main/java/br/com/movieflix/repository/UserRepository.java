@@ -2,6 +2,9 @@ package br.com.movieflix.repository;
 
 import br.com.movieflix.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Repository;
 
@@ -12,4 +15,10 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     Optional<UserDetails> findUserByEmail(String email);
 
+    boolean existsByEmail(String email);
+
+    @Modifying
+    @Query("update User u set u.password = :password where u.id = :id")
+    void updatePassword(@Param("id") Long id, @Param("password") String password);
+
 }
@@ -0,0 +1,22 @@
+package br.com.movieflix.search;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * Tamanho e tempo de construção do índice de autocomplete, em /actuator/autocomplete (porta de gerenciamento).
+ */
+@Component
+@RequiredArgsConstructor
+@Endpoint(id = "autocomplete")
+public class AutocompleteEndpoint {
+
+    private final TitleAutocompleteIndex titleAutocompleteIndex;
+
+    @ReadOperation
+    public AutocompleteStats stats(){
+        return titleAutocompleteIndex.stats();
+    }
+}
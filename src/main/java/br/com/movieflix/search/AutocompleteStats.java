@@ -0,0 +1,13 @@
+package br.com.movieflix.search;
+
+import lombok.Builder;
+
+@Builder
+public record AutocompleteStats(int titles,
+                                int deletedTitles,
+                                long rejectedTitles,
+                                int trigrams,
+                                long postings,
+                                long estimatedBytes,
+                                long buildTimeMillis) {
+}
@@ -0,0 +1,31 @@
+package br.com.movieflix.search;
+
+import java.util.Arrays;
+
+/**
+ * Lista de inteiros sem boxing, usada nas posting lists do índice de autocomplete.
+ */
+final class IntList {
+
+    private int[] values = new int[4];
+    private int size;
+
+    void add(int value){
+        if (size == values.length) {
+            values = Arrays.copyOf(values, size + (size >> 1) + 1);
+        }
+        values[size++] = value;
+    }
+
+    int get(int index){
+        return values[index];
+    }
+
+    int size(){
+        return size;
+    }
+
+    long capacityBytes(){
+        return (long) values.length * Integer.BYTES;
+    }
+}
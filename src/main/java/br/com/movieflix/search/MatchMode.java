@@ -0,0 +1,6 @@
+package br.com.movieflix.search;
+
+public enum MatchMode {
+    ANY,
+    ALL
+}
@@ -0,0 +1,25 @@
+package br.com.movieflix.search;
+
+import lombok.Builder;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Builder
+public record MovieFilter(List<Long> categories,
+                          MatchMode categoryMatch,
+                          List<Long> streamings,
+                          MatchMode streamingMatch,
+                          Double minRating,
+                          Double maxRating,
+                          LocalDate minReleaseDate,
+                          LocalDate maxReleaseDate) {
+
+    public boolean hasCategories(){
+        return categories != null && !categories.isEmpty();
+    }
+
+    public boolean hasStreamings(){
+        return streamings != null && !streamings.isEmpty();
+    }
+}
@@ -0,0 +1,27 @@
+package br.com.movieflix.search;
+
+import lombok.experimental.UtilityClass;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+@UtilityClass
+public class TextSearchQuery {
+
+    /**
+     * Converte o texto digitado em uma tsquery com busca por prefixo em todos os termos
+     * ("poderoso che" -> "poderoso:* & che:*"). Apenas letras e dígitos são mantidos, então
+     * operadores da sintaxe de tsquery nunca chegam ao banco. Retorna vazio quando não há termos.
+     */
+    public static String toPrefixQuery(String text){
+        if (text == null) {
+            return "";
+        }
+
+        return Arrays.stream(text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+"))
+                .filter(term -> !term.isEmpty())
+                .map(term -> term + ":*")
+                .collect(Collectors.joining(" & "));
+    }
+}
@@ -0,0 +1,410 @@
+package br.com.movieflix.search;
+
+import br.com.movieflix.entity.Movie;
+import br.com.movieflix.repository.MovieRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.function.Consumer;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Índice em memória de trigramas dos títulos para o autocomplete.
+ *
+ * <p>Cada título ocupa um slot; cada trigrama aponta para uma posting list ordenada de slots.
+ * Os trigramas de cada palavra começam com "$$", então o último termo digitado funciona como prefixo
+ * e um erro de digitação derruba só parte dos trigramas. Um título é sugerido quando contém ao menos
+ * metade dos trigramas da consulta, ordenado pela quantidade de trigramas em comum e depois pela nota.</p>
+ *
+ * <p>Cada consulta percorre no máximo {@code max-postings-per-query} entradas: as posting lists são visitadas da menor
+ * para a maior e os trigramas mais comuns (presentes em boa parte do catálogo) são ignorados quando estourariam o limite,
+ * contando como presentes em todos os títulos.</p>
+ *
+ * <p>Remoções e alterações de título marcam o slot antigo como removido; o índice é compactado
+ * quando os slots removidos passam dos vivos. Títulos além de {@code max-titles} ficam fora do índice e são contados
+ * em {@link AutocompleteStats#rejectedTitles()}.</p>
+ *
+ * <p>A carga inicial monta um índice à parte e o publica no fim, então o autocomplete responde com o índice anterior
+ * enquanto o catálogo é lido.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TitleAutocompleteIndex {
+
+    private static final int BUILD_BATCH_SIZE = 10_000;
+    private static final double MIN_MATCH_RATIO = 0.5;
+    private static final int MIN_DELETED_TO_COMPACT = 10_000;
+
+    private final MovieRepository movieRepository;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    @Value("${movieflix.autocomplete.max-titles:2000000}")
+    private int maxTitles;
+
+    @Value("${movieflix.autocomplete.max-postings-per-query:50000}")
+    private int maxPostingsPerQuery;
+
+    private Titles current = new Titles();
+    private List<Consumer<Titles>> writesDuringBuild;
+    private volatile long buildTimeMillis;
+
+    /**
+     * Monta um índice novo fora do lock, para que as sugestões continuem sendo atendidas durante a leitura do banco,
+     * e o troca pelo atual sob um write lock curto. As escritas feitas durante a montagem valem para o índice atual e
+     * são reaplicadas no novo antes da troca; reaplicar uma escrita que a leitura do banco já viu não muda nada.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void build(){
+        long start = System.nanoTime();
+        lock.writeLock().lock();
+        try {
+            writesDuringBuild = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Titles rebuilt = null;
+        try {
+            rebuilt = load();
+        } finally {
+            lock.writeLock().lock();
+            try {
+                if (rebuilt != null) {
+                    for (Consumer<Titles> write : writesDuringBuild) {
+                        write.accept(rebuilt);
+                    }
+                    current = rebuilt;
+                }
+                writesDuringBuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+        buildTimeMillis = (System.nanoTime() - start) / 1_000_000;
+    }
+
+    public void put(Movie movie){
+        putAll(List.of(new TitleEntry(movie.getId(), movie.getTitle(), movie.getRating())));
+    }
+
+    public void putAll(Collection<TitleEntry> entries){
+        List<TitleEntry> snapshot = List.copyOf(entries);
+        write(index -> index.putAll(snapshot));
+    }
+
+    public void remove(Long movieId){
+        write(index -> index.remove(movieId));
+    }
+
+    public List<TitleEntry> suggest(String query, int limit){
+        long[] queryGrams = trigrams(query);
+        if (queryGrams.length == 0 || limit <= 0) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            return current.suggest(queryGrams, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public AutocompleteStats stats(){
+        lock.readLock().lock();
+        try {
+            return current.stats();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Titles load(){
+        Titles loaded = new Titles();
+        long lastId = 0L;
+        List<TitleEntry> batch;
+        do {
+            batch = movieRepository.findTitlesAfter(lastId, Limit.of(BUILD_BATCH_SIZE));
+            for (TitleEntry entry : batch) {
+                loaded.add(entry.id(), entry.title(), entry.rating());
+                lastId = entry.id();
+            }
+        } while (batch.size() == BUILD_BATCH_SIZE);
+        return loaded;
+    }
+
+    private void write(Consumer<Titles> change){
+        lock.writeLock().lock();
+        try {
+            change.accept(current);
+            if (writesDuringBuild != null) {
+                writesDuringBuild.add(change);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Slots e posting lists de um índice. Não é thread-safe: o acesso é protegido pelo lock de
+     * {@link TitleAutocompleteIndex}, exceto durante o {@link TitleAutocompleteIndex#build()}, quando só a thread que o monta o enxerga.
+     */
+    private final class Titles {
+
+        private long[] ids = new long[0];
+        private String[] titles = new String[0];
+        private double[] ratings = new double[0];
+        private int slotCount;
+        private BitSet deleted = new BitSet();
+        private int deletedCount;
+        private Map<Long, Integer> slotById = new HashMap<>();
+        private Map<Long, IntList> postings = new HashMap<>();
+        private long postingCount;
+        private long rejectedTitles;
+
+        void putAll(Collection<TitleEntry> entries){
+            for (TitleEntry entry : entries) {
+                Integer slot = slotById.get(entry.id());
+                if (slot != null && titles[slot].equals(entry.title())) {
+                    ratings[slot] = entry.rating();
+                    continue;
+                }
+                if (slot != null) {
+                    markDeleted(slot);
+                }
+                add(entry.id(), entry.title(), entry.rating());
+            }
+            compactIfNeeded();
+        }
+
+        void remove(Long movieId){
+            Integer slot = slotById.get(movieId);
+            if (slot != null) {
+                markDeleted(slot);
+                compactIfNeeded();
+            }
+        }
+
+        List<TitleEntry> suggest(long[] queryGrams, int limit){
+            List<IntList> lists = new ArrayList<>(queryGrams.length);
+            for (long gram : queryGrams) {
+                IntList list = postings.get(gram);
+                if (list != null) {
+                    lists.add(list);
+                }
+            }
+            int minMatches = Math.max(1, (int) Math.ceil(queryGrams.length * MIN_MATCH_RATIO));
+            if (lists.size() < minMatches) {
+                return List.of();
+            }
+
+            // Trigramas mais seletivos primeiro; os comuns demais para o orçamento são ignorados e contam como presentes.
+            // A menor lista sempre entra, truncada se sozinha passar do orçamento
+            lists.sort(Comparator.comparingInt(IntList::size));
+            int[] ends = new int[lists.size()];
+            int used = 0;
+            long budget = maxPostingsPerQuery;
+            while (used < lists.size() && (used == 0 || lists.get(used).size() <= budget)) {
+                ends[used] = (int) Math.min(lists.get(used).size(), budget);
+                budget -= ends[used];
+                used++;
+            }
+            minMatches = Math.max(1, minMatches - (lists.size() - used));
+
+            // Merge das posting lists ordenadas: conta em quantas listas cada slot aparece, sem alocar por título
+            int[] positions = new int[used];
+            int[] topSlots = new int[limit];
+            int[] topMatches = new int[limit];
+            int topSize = 0;
+            while (true) {
+                int slot = Integer.MAX_VALUE;
+                for (int i = 0; i < used; i++) {
+                    if (positions[i] < ends[i]) {
+                        slot = Math.min(slot, lists.get(i).get(positions[i]));
+                    }
+                }
+                if (slot == Integer.MAX_VALUE) {
+                    break;
+                }
+
+                int matches = 0;
+                for (int i = 0; i < used; i++) {
+                    if (positions[i] < ends[i] && lists.get(i).get(positions[i]) == slot) {
+                        matches++;
+                        positions[i]++;
+                    }
+                }
+
+                if (matches >= minMatches && !deleted.get(slot)) {
+                    topSize = offer(topSlots, topMatches, topSize, slot, matches);
+                }
+            }
+
+            List<TitleEntry> suggestions = new ArrayList<>(topSize);
+            for (int i = 0; i < topSize; i++) {
+                int slot = topSlots[i];
+                suggestions.add(new TitleEntry(ids[slot], titles[slot], ratings[slot]));
+            }
+            return suggestions;
+        }
+
+        AutocompleteStats stats(){
+            long postingBytes = postings.values().stream().mapToLong(IntList::capacityBytes).sum();
+            long titleBytes = 0;
+            for (int slot = 0; slot < slotCount; slot++) {
+                titleBytes += titles[slot].length() * 2L;
+            }
+            long slotBytes = (long) ids.length * (Long.BYTES + Double.BYTES + 8);
+
+            return AutocompleteStats.builder()
+                    .titles(slotById.size())
+                    .deletedTitles(deletedCount)
+                    .rejectedTitles(rejectedTitles)
+                    .trigrams(postings.size())
+                    .postings(postingCount)
+                    .estimatedBytes(postingBytes + titleBytes + slotBytes)
+                    .buildTimeMillis(buildTimeMillis)
+                    .build();
+        }
+
+        /**
+         * Insere o slot na lista dos melhores mantendo-a ordenada (mais trigramas em comum, depois maior nota).
+         */
+        private int offer(int[] topSlots, int[] topMatches, int topSize, int slot, int matches){
+            int limit = topSlots.length;
+            if (topSize == limit && !isBetter(matches, slot, topMatches[limit - 1], topSlots[limit - 1])) {
+                return topSize;
+            }
+
+            int position = Math.min(topSize, limit - 1);
+            while (position > 0 && isBetter(matches, slot, topMatches[position - 1], topSlots[position - 1])) {
+                topSlots[position] = topSlots[position - 1];
+                topMatches[position] = topMatches[position - 1];
+                position--;
+            }
+            topSlots[position] = slot;
+            topMatches[position] = matches;
+            return Math.min(topSize + 1, limit);
+        }
+
+        private boolean isBetter(int matches, int slot, int otherMatches, int otherSlot){
+            if (matches != otherMatches) {
+                return matches > otherMatches;
+            }
+            return ratings[slot] > ratings[otherSlot];
+        }
+
+        void add(Long id, String title, double rating){
+            if (slotById.size() >= maxTitles) {
+                if (rejectedTitles++ == 0) {
+                    log.warn("Índice de autocomplete cheio ({} títulos, movieflix.autocomplete.max-titles): "
+                            + "novos títulos não aparecem nas sugestões", maxTitles);
+                }
+                return;
+            }
+            if (slotCount == ids.length) {
+                int capacity = Math.max(1024, slotCount + (slotCount >> 1));
+                ids = Arrays.copyOf(ids, capacity);
+                titles = Arrays.copyOf(titles, capacity);
+                ratings = Arrays.copyOf(ratings, capacity);
+            }
+
+            int slot = slotCount++;
+            ids[slot] = id;
+            titles[slot] = title;
+            ratings[slot] = rating;
+            slotById.put(id, slot);
+
+            for (long gram : trigrams(title)) {
+                postings.computeIfAbsent(gram, key -> new IntList()).add(slot);
+                postingCount++;
+            }
+        }
+
+        private void markDeleted(int slot){
+            deleted.set(slot);
+            deletedCount++;
+            slotById.remove(ids[slot]);
+        }
+
+        private void compactIfNeeded(){
+            if (deletedCount < MIN_DELETED_TO_COMPACT || deletedCount < slotById.size()) {
+                return;
+            }
+
+            long[] oldIds = ids;
+            String[] oldTitles = titles;
+            double[] oldRatings = ratings;
+            int oldSlotCount = slotCount;
+            BitSet oldDeleted = deleted;
+
+            clear();
+            for (int slot = 0; slot < oldSlotCount; slot++) {
+                if (!oldDeleted.get(slot)) {
+                    add(oldIds[slot], oldTitles[slot], oldRatings[slot]);
+                }
+            }
+        }
+
+        private void clear(){
+            ids = new long[0];
+            titles = new String[0];
+            ratings = new double[0];
+            slotCount = 0;
+            deleted = new BitSet();
+            deletedCount = 0;
+            slotById = new HashMap<>();
+            postings = new HashMap<>();
+            postingCount = 0;
+        }
+    }
+
+    /**
+     * Trigramas distintos e ordenados do texto, sem acentos e em minúsculas. Cada palavra recebe o prefixo "$$".
+     */
+    static long[] trigrams(String text){
+        if (text == null) {
+            return new long[0];
+        }
+
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFD)
+                .replaceAll("\\p{M}", "")
+                .toLowerCase(Locale.ROOT);
+
+        long[] grams = new long[0];
+        int size = 0;
+        for (String word : normalized.split("[^\\p{L}\\p{N}]+")) {
+            if (word.isEmpty()) {
+                continue;
+            }
+            String padded = "$$" + word;
+            for (int i = 0; i + 3 <= padded.length(); i++) {
+                if (size == grams.length) {
+                    grams = Arrays.copyOf(grams, Math.max(8, size * 2));
+                }
+                grams[size++] = ((long) padded.charAt(i) << 32) | ((long) padded.charAt(i + 1) << 16) | padded.charAt(i + 2);
+            }
+        }
+
+        long[] sorted = Arrays.copyOf(grams, size);
+        Arrays.sort(sorted);
+        return Arrays.stream(sorted).distinct().toArray();
+    }
+}
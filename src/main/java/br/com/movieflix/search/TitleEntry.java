@@ -0,0 +1,4 @@
+package br.com.movieflix.search;
+
+public record TitleEntry(Long id, String title, double rating) {
+}
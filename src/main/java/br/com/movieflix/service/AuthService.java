@@ -1,15 +1,18 @@
 package br.com.movieflix.service;
 
+import br.com.movieflix.entity.User;
 import br.com.movieflix.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
-public class AuthService implements UserDetailsService {
+public class AuthService implements UserDetailsService, UserDetailsPasswordService {
 
     private final UserRepository userRepository;
 
@@ -17,4 +20,18 @@ public class AuthService implements UserDetailsService {
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
         return userRepository.findUserByEmail(username).orElseThrow(() -> new UsernameNotFoundException("Usuário ou senha inválido"));
     }
+
+    /**
+     * Chamado pelo Spring Security após um login bem-sucedido quando o hash armazenado está desatualizado
+     * (sem prefixo ou com custo menor que o configurado), gravando o hash novo. O usuário recebido é a instância carregada
+     * para este login, sem cache, então não é compartilhado com outras requisições.
+     */
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails userDetails, String newPassword) {
+        User user = (User) userDetails;
+        userRepository.updatePassword(user.getId(), newPassword);
+        user.setPassword(newPassword);
+        return user;
+    }
 }
@@ -1,32 +1,108 @@
 package br.com.movieflix.service;
 
+import br.com.movieflix.config.CacheConfig;
+import br.com.movieflix.entity.Movie;
 import br.com.movieflix.entity.Category;
+import br.com.movieflix.repository.CatalogVersionRepository;
 import br.com.movieflix.repository.CategoryRepository;
+import br.com.movieflix.versioning.ResourceVersion;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManagerFactory;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 @Service
+@Timed("movieflix.service")
 @RequiredArgsConstructor
 public class CategoryService {
 
     private final CategoryRepository repository;
+    private final CatalogVersionRepository catalogVersionRepository;
+    private final CacheManager cacheManager;
+    private final EntityManagerFactory entityManagerFactory;
 
+    @Cacheable(cacheNames = CacheConfig.CATEGORY_LIST, key = "'all'")
+    @Transactional(readOnly = true)
     public List<Category> findAll(){
         return repository.findAll();
     }
 
+    /**
+     * Versão da listagem, cacheada e invalidada junto com ela, para responder requisições condicionais sem serializar a lista.
+     */
+    @Cacheable(cacheNames = CacheConfig.CATEGORY_LIST, key = "'version'")
+    @Transactional(readOnly = true)
+    public ResourceVersion findAllVersion(){
+        return ResourceVersion.ofContent("categories", repository.findAll()
+                .stream()
+                .map(category -> category.getId() + ":" + category.getName())
+                .collect(Collectors.joining("\n")));
+    }
+
+    @Caching(
+            put = @CachePut(cacheNames = CacheConfig.CATEGORIES, key = "#result.id"),
+            evict = @CacheEvict(cacheNames = CacheConfig.CATEGORY_LIST, allEntries = true)
+    )
+    @Transactional
     public Category saveCategory(Category category){
-        return repository.save(category);
+        Category saved = repository.save(category);
+        // Os filmes exibem o nome: a versão de cada filme e da listagem avança com a escrita
+        catalogVersionRepository.incrementReferences();
+        return saved;
     }
 
+    @Cacheable(cacheNames = CacheConfig.CATEGORIES, key = "#id", unless = "#result == null")
+    @Transactional(readOnly = true)
     public Optional<Category> findById(Long id){
         return repository.findById(id);
     }
 
+    @Transactional(readOnly = true)
+    public List<Category> findAllById(Collection<Long> ids){
+        // Consulta o cache item a item e busca no banco, em uma única query, apenas os ids ausentes
+        Cache cache = cacheManager.getCache(CacheConfig.CATEGORIES);
+        List<Category> found = new ArrayList<>();
+        List<Long> missingIds = new ArrayList<>();
+        for (Long id : ids) {
+            Category cached = cache.get(id, Category.class);
+            if (cached != null) {
+                found.add(cached);
+            } else {
+                missingIds.add(id);
+            }
+        }
+
+        if (!missingIds.isEmpty()) {
+            repository.findAllById(missingIds).forEach(category -> {
+                cache.put(category.getId(), category);
+                found.add(category);
+            });
+        }
+        return found;
+    }
+
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.CATEGORIES, key = "#id"),
+            @CacheEvict(cacheNames = CacheConfig.CATEGORY_LIST, allEntries = true)
+    })
+    @Transactional
     public void deleteCategory(Long id){
         repository.deleteById(id);
+        catalogVersionRepository.incrementReferences();
+        // O cache de segundo nível das associações dos filmes guarda os ids; a remoção invalida a região inteira
+        entityManagerFactory.getCache().unwrap(org.hibernate.Cache.class).evictCollectionData(Movie.class.getName() + ".categories");
     }
 }
@@ -0,0 +1,197 @@
+package br.com.movieflix.service;
+
+import br.com.movieflix.controller.request.MovieRequest;
+import br.com.movieflix.entity.Category;
+import br.com.movieflix.entity.Movie;
+import br.com.movieflix.entity.Streaming;
+import br.com.movieflix.importing.ImportError;
+import br.com.movieflix.importing.ImportFormat;
+import br.com.movieflix.importing.MovieImportResult;
+import br.com.movieflix.repository.CatalogVersionRepository;
+import br.com.movieflix.repository.MovieBulkRepository;
+import br.com.movieflix.search.TitleAutocompleteIndex;
+import br.com.movieflix.search.TitleEntry;
+import br.com.movieflix.statistics.CatalogStatistics;
+import br.com.movieflix.statistics.MovieFacts;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Service
+@Timed("movieflix.service")
+@RequiredArgsConstructor
+public class MovieImportService {
+
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final MovieBulkRepository movieBulkRepository;
+    private final CategoryService categoryService;
+    private final StreamingService streamingService;
+    private final CatalogVersionRepository catalogVersionRepository;
+    private final TitleAutocompleteIndex titleAutocompleteIndex;
+    private final CatalogStatistics catalogStatistics;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${movieflix.import.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${movieflix.import.max-errors:1000}")
+    private int maxErrors;
+
+    /**
+     * Lê o corpo registro a registro e grava os válidos em lotes, cada lote em sua própria transação.
+     * Registros inválidos são reportados pelo número (a partir de 1) sem interromper a importação;
+     * apenas um corpo malformado encerra a leitura.
+     */
+    public MovieImportResult importMovies(InputStream input, ImportFormat format) throws IOException {
+        long start = System.nanoTime();
+        Set<Long> categoryIds = categoryService.findAll().stream().map(Category::getId).collect(Collectors.toSet());
+        Set<Long> streamingIds = streamingService.findAll().stream().map(Streaming::getId).collect(Collectors.toSet());
+
+        ImportProgress progress = new ImportProgress();
+        List<Movie> pending = new ArrayList<>(batchSize);
+        List<Long> pendingRecords = new ArrayList<>(batchSize);
+
+        try (MappingIterator<MovieRequest> rows = format.reader(objectMapper).readValues(input)) {
+            long record = 0;
+            while (true) {
+                record++;
+                MovieRequest request;
+                try {
+                    if (!rows.hasNextValue()) {
+                        break;
+                    }
+                    request = rows.nextValue();
+                } catch (JsonParseException e) {
+                    progress.fail(record, "Conteúdo malformado: " + e.getOriginalMessage());
+                    break;
+                } catch (JsonMappingException e) {
+                    progress.fail(record, "Valor inválido: " + e.getOriginalMessage());
+                    continue;
+                }
+
+                String error = this.validate(request, categoryIds, streamingIds);
+                if (error != null) {
+                    progress.fail(record, error);
+                    continue;
+                }
+
+                pending.add(this.toMovie(request));
+                pendingRecords.add(record);
+                if (pending.size() == batchSize) {
+                    this.flush(pending, pendingRecords, progress);
+                }
+            }
+        }
+        this.flush(pending, pendingRecords, progress);
+
+        return MovieImportResult.builder()
+                .imported(progress.imported)
+                .failed(progress.failed)
+                .errors(progress.errors)
+                .elapsedMillis((System.nanoTime() - start) / 1_000_000)
+                .build();
+    }
+
+    private void flush(List<Movie> movies, List<Long> records, ImportProgress progress){
+        if (movies.isEmpty()) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                List<Long> ids = movieBulkRepository.nextMovieIds(movies.size());
+                for (int i = 0; i < movies.size(); i++) {
+                    movies.get(i).setId(ids.get(i));
+                }
+                movieBulkRepository.insertAll(movies);
+                catalogVersionRepository.increment();
+            });
+
+            progress.imported += movies.size();
+            titleAutocompleteIndex.putAll(movies.stream()
+                    .map(movie -> new TitleEntry(movie.getId(), movie.getTitle(), movie.getRating()))
+                    .toList());
+            catalogStatistics.addAll(movies.stream().map(MovieFacts::of).toList());
+        } catch (DataAccessException e) {
+            // O lote inteiro é desfeito; cada registro dele é reportado com a causa
+            String message = "Falha ao gravar o lote: " + e.getMostSpecificCause().getMessage();
+            records.forEach(record -> progress.fail(record, message));
+        }
+
+        movies.clear();
+        records.clear();
+    }
+
+    private String validate(MovieRequest request, Set<Long> categoryIds, Set<Long> streamingIds){
+        Set<ConstraintViolation<MovieRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            return violations.stream().map(ConstraintViolation::getMessage).sorted().collect(Collectors.joining(" "));
+        }
+
+        List<Long> unknownCategories = unknownIds(request.categories(), categoryIds);
+        if (!unknownCategories.isEmpty()) {
+            return "Categorias não encontradas: " + unknownCategories;
+        }
+
+        List<Long> unknownStreamings = unknownIds(request.streamings(), streamingIds);
+        if (!unknownStreamings.isEmpty()) {
+            return "Serviços de streaming não encontrados: " + unknownStreamings;
+        }
+        return null;
+    }
+
+    private Movie toMovie(MovieRequest request){
+        return Movie.builder()
+                .title(request.title())
+                .description(request.description())
+                .releaseDate(request.releaseDate())
+                .rating(request.rating())
+                .categories(distinct(request.categories()).stream()
+                        .map(id -> Category.builder().id(id).build())
+                        .toList())
+                .streamings(distinct(request.streamings()).stream()
+                        .map(id -> Streaming.builder().id(id).build())
+                        .toList())
+                .build();
+    }
+
+    private static List<Long> unknownIds(List<Long> ids, Set<Long> knownIds){
+        return distinct(ids).stream().filter(id -> !knownIds.contains(id)).toList();
+    }
+
+    private static List<Long> distinct(List<Long> ids){
+        return ids == null ? List.of() : ids.stream().distinct().toList();
+    }
+
+    private class ImportProgress {
+
+        private long imported;
+        private long failed;
+        private final List<ImportError> errors = new ArrayList<>();
+
+        private void fail(long record, String message){
+            failed++;
+            // Limita os erros detalhados para que um arquivo todo inválido não esgote a memória
+            if (errors.size() < maxErrors) {
+                errors.add(new ImportError(record, message));
+            }
+        }
+    }
+}
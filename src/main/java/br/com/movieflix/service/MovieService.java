@@ -3,43 +3,211 @@ package br.com.movieflix.service;
 import br.com.movieflix.entity.Category;
 import br.com.movieflix.entity.Movie;
 import br.com.movieflix.entity.Streaming;
+import br.com.movieflix.exception.InvalidPageException;
+import br.com.movieflix.exception.UnknownReferenceException;
+import br.com.movieflix.pagination.CursorPage;
+import br.com.movieflix.pagination.MovieCursor;
+import br.com.movieflix.pagination.MovieSort;
+import br.com.movieflix.pagination.OffsetPage;
+import br.com.movieflix.repository.CatalogVersionRepository;
 import br.com.movieflix.repository.MovieRepository;
+import br.com.movieflix.search.MovieFilter;
+import br.com.movieflix.search.TextSearchQuery;
+import br.com.movieflix.search.TitleAutocompleteIndex;
+import br.com.movieflix.search.TitleEntry;
+import br.com.movieflix.statistics.CatalogStatistics;
+import br.com.movieflix.statistics.MovieFacts;
+import br.com.movieflix.versioning.CatalogVersion;
+import br.com.movieflix.versioning.MovieVersion;
+import br.com.movieflix.versioning.ResourceVersion;
+import br.com.movieflix.versioning.VersionedMovie;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 @RequiredArgsConstructor
 @Service
+@Timed("movieflix.service")
 public class MovieService {
 
     private final MovieRepository movieRepository;
+    private final CatalogVersionRepository catalogVersionRepository;
     private final CategoryService categoryService;
     private final StreamingService streamingService;
+    private final TitleAutocompleteIndex titleAutocompleteIndex;
+    private final CatalogStatistics catalogStatistics;
+    private final PlatformTransactionManager transactionManager;
 
+    private static final int DEFAULT_SUGGESTIONS = 10;
+    private static final int MAX_SUGGESTIONS = 50;
 
+    @Value("${movieflix.pagination.default-size:20}")
+    private int defaultPageSize;
+
+    @Value("${movieflix.pagination.max-size:100}")
+    private int maxPageSize;
+
+    @Value("${movieflix.pagination.max-offset:10000}")
+    private int maxOffset;
+
+    @Value("${movieflix.export.batch-size:500}")
+    private int exportBatchSize;
+
+
+    @Transactional
     public Movie save(Movie movie){
         movie.setCategories(this.findCategories(movie.getCategories()));
         movie.setStreamings(this.findStreamings(movie.getStreamings()));
-        return movieRepository.save(movie);
+        Movie savedMovie = movieRepository.save(movie);
+        catalogVersionRepository.increment();
+        MovieFacts facts = MovieFacts.of(savedMovie);
+        this.afterCommit(() -> {
+            titleAutocompleteIndex.put(savedMovie);
+            catalogStatistics.add(facts);
+        });
+        return savedMovie;
     }
 
+    @Transactional(readOnly = true)
     public List<Movie> findAll(){
         return movieRepository.findAll();
     }
 
+    /**
+     * Percorre o catálogo inteiro em lotes por id, cada um em sua própria transação.
+     * Os filmes são convertidos dentro da transação e descartados em seguida, então a memória não cresce com o catálogo
+     * e nenhuma conexão fica presa enquanto o lote convertido é escrito.
+     */
+    public <T> void export(Function<Movie, T> mapper, Consumer<List<T>> batchConsumer){
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+
+        Long lastId = 0L;
+        while (lastId != null) {
+            Long afterId = lastId;
+            List<T> batch = new ArrayList<>(exportBatchSize);
+            lastId = transactionTemplate.execute(status -> {
+                List<Movie> movies = movieRepository.findByIdGreaterThanOrderByIdAsc(afterId, Limit.of(exportBatchSize));
+                movies.forEach(movie -> batch.add(mapper.apply(movie)));
+                return movies.size() < exportBatchSize ? null : movies.get(movies.size() - 1).getId();
+            });
+
+            if (!batch.isEmpty()) {
+                batchConsumer.accept(batch);
+            }
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<Movie> findPage(MovieSort sort, String cursor, Integer size){
+        int pageSize = this.pageSize(size);
+        MovieCursor after = cursor == null || cursor.isBlank() ? null : MovieCursor.decode(cursor);
+        // O cursor carrega a ordenação da primeira página, garantindo uma sequência consistente
+        MovieSort pageSort = after == null ? sort : after.sort();
+
+        // Busca um registro a mais para saber se existe próxima página
+        Limit limit = Limit.of(pageSize + 1);
+        List<Movie> movies = switch (pageSort) {
+            case ID -> movieRepository.findByIdGreaterThanOrderByIdAsc(after == null ? 0L : after.id(), limit);
+            case RATING -> after == null
+                    ? movieRepository.findByOrderByRatingDescIdAsc(limit)
+                    : movieRepository.findNextByRating(after.rating(), after.id(), limit);
+            case RELEASE_DATE -> this.findByReleaseDate(after, pageSize + 1);
+        };
+
+        if (movies.size() <= pageSize) {
+            return new CursorPage<>(movies, null);
+        }
+
+        List<Movie> content = movies.subList(0, pageSize);
+        return new CursorPage<>(content, MovieCursor.after(pageSort, content.get(pageSize - 1)).encode());
+    }
+
+    @Transactional(readOnly = true)
+    public OffsetPage<Movie> search(MovieFilter filter, MovieSort sort, Integer page, Integer size){
+        int pageSize = this.pageSize(size);
+        int pageNumber = page == null ? 0 : Math.max(page, 0);
+
+        List<Movie> movies = movieRepository.search(filter, sort == null ? MovieSort.ID : sort,
+                this.offset(pageNumber, pageSize), pageSize + 1);
+        boolean hasNext = movies.size() > pageSize;
+        return new OffsetPage<>(hasNext ? movies.subList(0, pageSize) : movies, pageNumber, pageSize, hasNext);
+    }
+
+    @Transactional(readOnly = true)
+    public OffsetPage<Movie> searchByText(String text, Integer page, Integer size){
+        int pageSize = this.pageSize(size);
+        int pageNumber = page == null ? 0 : Math.max(page, 0);
+
+        int offset = this.offset(pageNumber, pageSize);
+        String query = TextSearchQuery.toPrefixQuery(text);
+        if (query.isEmpty()) {
+            return new OffsetPage<>(List.of(), pageNumber, pageSize, false);
+        }
+
+        List<Movie> movies = movieRepository.searchByText(query, offset, pageSize + 1);
+        boolean hasNext = movies.size() > pageSize;
+        return new OffsetPage<>(hasNext ? movies.subList(0, pageSize) : movies, pageNumber, pageSize, hasNext);
+    }
+
+    public List<TitleEntry> autocomplete(String text, Integer limit){
+        int suggestions = limit == null ? DEFAULT_SUGGESTIONS : Math.min(Math.max(limit, 1), MAX_SUGGESTIONS);
+        return titleAutocompleteIndex.suggest(text, suggestions);
+    }
+
+    @Transactional(readOnly = true)
     public Optional<Movie> findMovieById(Long id){
         return movieRepository.findById(id);
     }
 
+    /**
+     * A versão de referência é lida antes do filme, na mesma transação, então o filme nunca é mais antigo que o ETag.
+     */
+    @Transactional(readOnly = true)
+    public Optional<VersionedMovie> findVersionedMovieById(Long id){
+        CatalogVersion catalogVersion = catalogVersionRepository.find();
+        return movieRepository.findById(id)
+                .map(movie -> new VersionedMovie(movie, MovieVersion.of(movie, catalogVersion).resourceVersion()));
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<CursorPage<Movie>> findPageIfModified(MovieSort sort, String cursor, Integer size,
+                                                          Predicate<ResourceVersion> notModified){
+        return this.ifCatalogModified(notModified, () -> this.findPage(sort, cursor, size));
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<List<Movie>> findAllIfModified(Predicate<ResourceVersion> notModified){
+        return this.ifCatalogModified(notModified, this::findAll);
+    }
+
+    @Transactional
     public Optional<Movie> update (Long movieId, Movie updateMovie){
         Optional<Movie> optMovie = movieRepository.findById(movieId);
 
         if(optMovie.isPresent()){
             Movie movie = optMovie.get();
+            MovieFacts previousFacts = MovieFacts.of(movie);
 
             List<Category> categories = this.findCategories(updateMovie.getCategories());
             List<Streaming> streamings = this.findStreamings(updateMovie.getStreamings());
@@ -49,6 +217,8 @@ public class MovieService {
             movie.setDescription(updateMovie.getDescription());
             movie.setReleaseDate(updateMovie.getReleaseDate());
             movie.setRating(updateMovie.getRating());
+            // Alterações só nas associações não tornam a entidade suja, então a data é atualizada explicitamente
+            movie.setUpdatedAt(LocalDateTime.now());
 
 
             movie.getCategories().clear();
@@ -57,7 +227,13 @@ public class MovieService {
             movie.getStreamings().clear();
             movie.getStreamings().addAll(streamings);
 
-            movieRepository.save(movie);
+            movieRepository.saveAndFlush(movie);
+            catalogVersionRepository.increment();
+            MovieFacts facts = MovieFacts.of(movie);
+            this.afterCommit(() -> {
+                titleAutocompleteIndex.put(movie);
+                catalogStatistics.replace(previousFacts, facts);
+            });
             return Optional.of(movie);
         }
 
@@ -65,25 +241,114 @@ public class MovieService {
     }
 
 
+    @Transactional(readOnly = true)
     public List<Movie> findByCategory(Long categoryId){
         return movieRepository.findMovieByCategories(List.of(Category.builder().id(categoryId).build()));
     }
 
+    @Transactional
     public void delete(Long movieId){
-         movieRepository.deleteById(movieId);
+         movieRepository.findById(movieId).ifPresent(movie -> {
+             MovieFacts facts = MovieFacts.of(movie);
+             movieRepository.delete(movie);
+             movieRepository.flush();
+             catalogVersionRepository.increment();
+             this.afterCommit(() -> catalogStatistics.remove(facts));
+         });
+         this.afterCommit(() -> titleAutocompleteIndex.remove(movieId));
+    }
+
+
+    /**
+     * Índice de títulos e estatísticas ficam em memória: só refletem a alteração depois que ela foi gravada,
+     * para que um rollback não deixe neles um filme que não existe no banco.
+     */
+    private void afterCommit(Runnable action){
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
     }
 
+    /**
+     * Compara a versão do catálogo e, se o cliente não a tiver, carrega os dados na mesma transação: com réplicas,
+     * as duas leituras usam a mesma conexão. A versão é lida antes, então os dados nunca são mais antigos que o ETag.
+     * Vazio quando o cliente já tem a versão atual.
+     */
+    private <T> Optional<T> ifCatalogModified(Predicate<ResourceVersion> notModified, Supplier<T> loader){
+        if (notModified.test(catalogVersionRepository.find().resourceVersion())) {
+            return Optional.empty();
+        }
+        return Optional.of(loader.get());
+    }
+
+    private int pageSize(Integer size){
+        return size == null ? defaultPageSize : Math.min(Math.max(size, 1), maxPageSize);
+    }
+
+    /**
+     * Páginas por offset custam proporcionalmente ao offset; além do limite a pesquisa deve ser refinada.
+     * O cálculo em long evita que uma página enorme vire um offset negativo.
+     */
+    private int offset(int pageNumber, int pageSize){
+        long offset = (long) pageNumber * pageSize;
+        if (offset > maxOffset) {
+            throw new InvalidPageException("Página fora do limite: apenas os primeiros " + maxOffset
+                    + " resultados podem ser paginados, refine a pesquisa");
+        }
+        return (int) offset;
+    }
+
+    private List<Movie> findByReleaseDate(MovieCursor after, int fetchSize){
+        // Filmes sem data de lançamento ficam no fim da ordenação, paginados apenas por id
+        if (after != null && after.releaseDate() == null) {
+            return movieRepository.findNextWithoutReleaseDate(after.id(), Limit.of(fetchSize));
+        }
+
+        List<Movie> movies = new ArrayList<>(after == null
+                ? movieRepository.findFirstByReleaseDate(Limit.of(fetchSize))
+                : movieRepository.findNextByReleaseDate(after.releaseDate(), after.id(), Limit.of(fetchSize)));
+
+        if (movies.size() < fetchSize) {
+            movies.addAll(movieRepository.findNextWithoutReleaseDate(0L, Limit.of(fetchSize - movies.size())));
+        }
+        return movies;
+    }
 
     private List<Category> findCategories(List<Category> categories){
-        List<Category> categoriesFound = new ArrayList<>();
-        categories.forEach(category -> categoryService.findById(category.getId()).ifPresent(categoriesFound::add));
-        return categoriesFound;
+        List<Long> ids = categories.stream().map(Category::getId).distinct().toList();
+        Map<Long, Category> categoriesFound = categoryService.findAllById(ids)
+                .stream()
+                .collect(Collectors.toMap(Category::getId, Function.identity()));
+
+        checkUnknownIds("Categorias não encontradas: ", ids, categoriesFound.keySet());
+        return ids.stream().map(categoriesFound::get).collect(Collectors.toCollection(ArrayList::new));
     }
 
     private List<Streaming> findStreamings(List<Streaming> streamings){
-        List<Streaming> streamingFound = new ArrayList<>();
-        streamings.forEach(streaming -> streamingService.findById(streaming.getId()).ifPresent(streamingFound::add));
-        return streamingFound;
+        List<Long> ids = streamings.stream().map(Streaming::getId).distinct().toList();
+        Map<Long, Streaming> streamingsFound = streamingService.findAllById(ids)
+                .stream()
+                .collect(Collectors.toMap(Streaming::getId, Function.identity()));
+
+        checkUnknownIds("Serviços de streaming não encontrados: ", ids, streamingsFound.keySet());
+        return ids.stream().map(streamingsFound::get).collect(Collectors.toCollection(ArrayList::new));
+    }
+
+    private void checkUnknownIds(String message, List<Long> requestedIds, Set<Long> foundIds){
+        List<Long> unknownIds = requestedIds.stream()
+                .filter(id -> !foundIds.contains(id))
+                .toList();
+
+        if (!unknownIds.isEmpty()) {
+            throw new UnknownReferenceException(message + unknownIds);
+        }
     }
 
 
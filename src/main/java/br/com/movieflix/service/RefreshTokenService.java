@@ -0,0 +1,102 @@
+package br.com.movieflix.service;
+
+import br.com.movieflix.entity.RefreshToken;
+import br.com.movieflix.entity.User;
+import br.com.movieflix.exception.InvalidRefreshTokenException;
+import br.com.movieflix.repository.RefreshTokenRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HexFormat;
+
+/**
+ * Refresh tokens opacos e de uso único: cada renovação revoga o token usado e emite outro.
+ * Apresentar um token já revogado indica que ele vazou, então todos os tokens do usuário são revogados.
+ */
+@Service
+@RequiredArgsConstructor
+public class RefreshTokenService {
+
+    private static final int TOKEN_BYTES = 32;
+
+    private final RefreshTokenRepository repository;
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    @Value("${movieflix.security.refresh-token-ttl:30d}")
+    private Duration refreshTokenTtl;
+
+    @Transactional
+    public String issue(User user){
+        byte[] bytes = new byte[TOKEN_BYTES];
+        secureRandom.nextBytes(bytes);
+        String refreshToken = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        repository.save(RefreshToken.builder()
+                .user(user)
+                .tokenHash(hash(refreshToken))
+                .expiresAt(LocalDateTime.now().plus(refreshTokenTtl))
+                .build());
+        return refreshToken;
+    }
+
+    @Transactional(noRollbackFor = InvalidRefreshTokenException.class)
+    public Rotation rotate(String refreshToken){
+        RefreshToken current = this.find(refreshToken);
+        LocalDateTime now = LocalDateTime.now();
+
+        if (current.getRevokedAt() != null) {
+            repository.revokeAllByUserId(current.getUser().getId(), now);
+            throw new InvalidRefreshTokenException("Refresh token inválido");
+        }
+        if (current.getExpiresAt().isBefore(now)) {
+            throw new InvalidRefreshTokenException("Refresh token expirado");
+        }
+
+        current.setRevokedAt(now);
+        User user = current.getUser();
+        return new Rotation(user, this.issue(user));
+    }
+
+    @Transactional
+    public void revoke(String refreshToken){
+        repository.findForUpdateByTokenHash(hash(refreshToken))
+                .filter(token -> token.getRevokedAt() == null)
+                .ifPresent(token -> token.setRevokedAt(LocalDateTime.now()));
+    }
+
+    @Transactional
+    @Scheduled(fixedDelayString = "${movieflix.security.refresh-token-cleanup-interval:PT1H}")
+    public void deleteExpired(){
+        repository.deleteExpired(LocalDateTime.now());
+    }
+
+    private RefreshToken find(String refreshToken){
+        if (refreshToken == null || refreshToken.isBlank()) {
+            throw new InvalidRefreshTokenException("Refresh token inválido");
+        }
+        return repository.findForUpdateByTokenHash(hash(refreshToken))
+                .orElseThrow(() -> new InvalidRefreshTokenException("Refresh token inválido"));
+    }
+
+    private static String hash(String refreshToken){
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(refreshToken.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    public record Rotation(User user, String refreshToken) {
+    }
+}
@@ -1,33 +1,109 @@
 package br.com.movieflix.service;
 
+import br.com.movieflix.config.CacheConfig;
+import br.com.movieflix.entity.Movie;
 import br.com.movieflix.entity.Streaming;
+import br.com.movieflix.repository.CatalogVersionRepository;
 import br.com.movieflix.repository.StreamingRepository;
+import br.com.movieflix.versioning.ResourceVersion;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManagerFactory;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 @Service
+@Timed("movieflix.service")
 @RequiredArgsConstructor
 public class StreamingService {
 
     private final StreamingRepository repository;
+    private final CatalogVersionRepository catalogVersionRepository;
+    private final CacheManager cacheManager;
+    private final EntityManagerFactory entityManagerFactory;
 
+    @Cacheable(cacheNames = CacheConfig.STREAMING_LIST, key = "'all'")
+    @Transactional(readOnly = true)
     public List<Streaming> findAll(){
         return repository.findAll();
     }
 
+    /**
+     * Versão da listagem, cacheada e invalidada junto com ela, para responder requisições condicionais sem serializar a lista.
+     */
+    @Cacheable(cacheNames = CacheConfig.STREAMING_LIST, key = "'version'")
+    @Transactional(readOnly = true)
+    public ResourceVersion findAllVersion(){
+        return ResourceVersion.ofContent("streamings", repository.findAll()
+                .stream()
+                .map(streaming -> streaming.getId() + ":" + streaming.getName())
+                .collect(Collectors.joining("\n")));
+    }
+
+    @Caching(
+            put = @CachePut(cacheNames = CacheConfig.STREAMINGS, key = "#result.id"),
+            evict = @CacheEvict(cacheNames = CacheConfig.STREAMING_LIST, allEntries = true)
+    )
+    @Transactional
     public Streaming saveStreaming(Streaming streaming){
-        return repository.save(streaming);
+        Streaming saved = repository.save(streaming);
+        // Os filmes exibem o nome: a versão de cada filme e da listagem avança com a escrita
+        catalogVersionRepository.incrementReferences();
+        return saved;
     }
 
+    @Cacheable(cacheNames = CacheConfig.STREAMINGS, key = "#id", unless = "#result == null")
+    @Transactional(readOnly = true)
     public Optional<Streaming> findById(Long id){
         return repository.findById(id);
     }
 
+    @Transactional(readOnly = true)
+    public List<Streaming> findAllById(Collection<Long> ids){
+        // Consulta o cache item a item e busca no banco, em uma única query, apenas os ids ausentes
+        Cache cache = cacheManager.getCache(CacheConfig.STREAMINGS);
+        List<Streaming> found = new ArrayList<>();
+        List<Long> missingIds = new ArrayList<>();
+        for (Long id : ids) {
+            Streaming cached = cache.get(id, Streaming.class);
+            if (cached != null) {
+                found.add(cached);
+            } else {
+                missingIds.add(id);
+            }
+        }
+
+        if (!missingIds.isEmpty()) {
+            repository.findAllById(missingIds).forEach(streaming -> {
+                cache.put(streaming.getId(), streaming);
+                found.add(streaming);
+            });
+        }
+        return found;
+    }
+
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.STREAMINGS, key = "#id"),
+            @CacheEvict(cacheNames = CacheConfig.STREAMING_LIST, allEntries = true)
+    })
+    @Transactional
     public void deleteStreaming(Long id){
         repository.deleteById(id);
+        catalogVersionRepository.incrementReferences();
+        // O cache de segundo nível das associações dos filmes guarda os ids; a remoção invalida a região inteira
+        entityManagerFactory.getCache().unwrap(org.hibernate.Cache.class).evictCollectionData(Movie.class.getName() + ".streamings");
     }
 
 }
@@ -1,8 +1,10 @@
 package br.com.movieflix.service;
 
 import br.com.movieflix.entity.User;
+import br.com.movieflix.exception.EmailAlreadyRegisteredException;
 import br.com.movieflix.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
@@ -15,9 +17,19 @@ public class UserService {
 
 
     public User saveUser(User user){
+        // Verifica antes do hash para não gastar bcrypt com um cadastro que será recusado
+        if (userRepository.existsByEmail(user.getEmail())) {
+            throw new EmailAlreadyRegisteredException("E-mail já cadastrado");
+        }
+
         String password = user.getPassword();
         user.setPassword(passwordEncoder.encode(password));
-        return userRepository.save(user);
+        try {
+            return userRepository.saveAndFlush(user);
+        } catch (DataIntegrityViolationException ex) {
+            // Dois cadastros simultâneos com o mesmo e-mail: o índice único idx_users_email recusa o segundo
+            throw new EmailAlreadyRegisteredException("E-mail já cadastrado");
+        }
     }
 
 }
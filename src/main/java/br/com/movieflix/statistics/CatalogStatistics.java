@@ -0,0 +1,107 @@
+package br.com.movieflix.statistics;
+
+import br.com.movieflix.repository.CatalogStatisticsRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Contadores em memória das estatísticas do catálogo, mantidos a cada escrita de filme.
+ *
+ * <p>As consultas custam o número de categorias, streamings ou anos, nunca o tamanho do catálogo. Os contadores são
+ * construídos por agregação no banco na inicialização e reconstruídos periodicamente, o que corrige eventuais
+ * divergências, como escritas concorrentes com a reconstrução ou alterações feitas fora da aplicação.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class CatalogStatistics {
+
+    private final CatalogStatisticsRepository repository;
+
+    private long movies;
+    private Map<Long, Long> moviesPerCategory = new HashMap<>();
+    private Map<Long, RatingSummary> ratingPerStreaming = new HashMap<>();
+    private Map<Integer, Long> releasesPerYear = new HashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${movieflix.statistics.resync-interval:PT10M}",
+            fixedDelayString = "${movieflix.statistics.resync-interval:PT10M}")
+    public void rebuild(){
+        long countedMovies = repository.countMovies();
+        Map<Long, Long> categories = repository.countMoviesPerCategory();
+        Map<Long, RatingSummary> streamings = repository.summarizeRatingPerStreaming();
+        Map<Integer, Long> years = repository.countReleasesPerYear();
+
+        synchronized (this) {
+            movies = countedMovies;
+            moviesPerCategory = categories;
+            ratingPerStreaming = streamings;
+            releasesPerYear = years;
+        }
+    }
+
+    public void add(MovieFacts facts){
+        apply(facts, 1);
+    }
+
+    public void addAll(Collection<MovieFacts> facts){
+        synchronized (this) {
+            facts.forEach(movie -> apply(movie, 1));
+        }
+    }
+
+    public void remove(MovieFacts facts){
+        apply(facts, -1);
+    }
+
+    public void replace(MovieFacts previous, MovieFacts current){
+        synchronized (this) {
+            apply(previous, -1);
+            apply(current, 1);
+        }
+    }
+
+    public synchronized long movies(){
+        return movies;
+    }
+
+    public synchronized Map<Long, Long> moviesPerCategory(){
+        return new HashMap<>(moviesPerCategory);
+    }
+
+    public synchronized Map<Long, RatingSummary> ratingPerStreaming(){
+        return new HashMap<>(ratingPerStreaming);
+    }
+
+    public synchronized Map<Integer, Long> releasesPerYear(){
+        return new TreeMap<>(releasesPerYear);
+    }
+
+    private synchronized void apply(MovieFacts facts, int sign){
+        movies += sign;
+        for (Long categoryId : facts.categoryIds()) {
+            moviesPerCategory.merge(categoryId, (long) sign, Long::sum);
+            moviesPerCategory.remove(categoryId, 0L);
+        }
+        for (Long streamingId : facts.streamingIds()) {
+            RatingSummary summary = ratingPerStreaming.getOrDefault(streamingId, new RatingSummary(0, 0))
+                    .plus(sign, sign * facts.rating());
+            if (summary.movies() == 0) {
+                ratingPerStreaming.remove(streamingId);
+            } else {
+                ratingPerStreaming.put(streamingId, summary);
+            }
+        }
+        if (facts.releaseYear() != null) {
+            releasesPerYear.merge(facts.releaseYear(), (long) sign, Long::sum);
+            releasesPerYear.remove(facts.releaseYear(), 0L);
+        }
+    }
+}
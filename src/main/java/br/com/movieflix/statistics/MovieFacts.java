@@ -0,0 +1,21 @@
+package br.com.movieflix.statistics;
+
+import br.com.movieflix.entity.Category;
+import br.com.movieflix.entity.Movie;
+import br.com.movieflix.entity.Streaming;
+
+import java.util.List;
+
+/**
+ * Dados de um filme que entram nas estatísticas, copiados antes de o filme ser alterado ou removido.
+ */
+public record MovieFacts(List<Long> categoryIds, List<Long> streamingIds, Integer releaseYear, double rating) {
+
+    public static MovieFacts of(Movie movie){
+        return new MovieFacts(
+                movie.getCategories().stream().map(Category::getId).distinct().toList(),
+                movie.getStreamings().stream().map(Streaming::getId).distinct().toList(),
+                movie.getReleaseDate() == null ? null : movie.getReleaseDate().getYear(),
+                movie.getRating());
+    }
+}
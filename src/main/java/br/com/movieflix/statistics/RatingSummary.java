@@ -0,0 +1,12 @@
+package br.com.movieflix.statistics;
+
+public record RatingSummary(long movies, double ratingSum) {
+
+    public double averageRating(){
+        return movies == 0 ? 0 : ratingSum / movies;
+    }
+
+    RatingSummary plus(long movies, double ratingSum){
+        return new RatingSummary(this.movies + movies, this.ratingSum + ratingSum);
+    }
+}
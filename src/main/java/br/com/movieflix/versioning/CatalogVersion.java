@@ -0,0 +1,16 @@
+package br.com.movieflix.versioning;
+
+import java.time.LocalDateTime;
+
+/**
+ * Versão da coleção de filmes, mantida pelas escritas em {@code catalog_version}. Inclusões, alterações e remoções
+ * de filmes, categorias e streamings incrementam o número e avançam a data, então ambos mudam sempre que alguma
+ * página da listagem pode ter mudado. As escritas de categorias e streamings avançam também a versão de referência,
+ * que entra na versão de cada filme ({@link MovieVersion}).
+ */
+public record CatalogVersion(long version, LocalDateTime updatedAt, long referenceVersion, LocalDateTime referenceUpdatedAt) {
+
+    public ResourceVersion resourceVersion(){
+        return ResourceVersion.of("movies-" + version, updatedAt);
+    }
+}
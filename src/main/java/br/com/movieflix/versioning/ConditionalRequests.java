@@ -0,0 +1,18 @@
+package br.com.movieflix.versioning;
+
+import lombok.experimental.UtilityClass;
+import org.springframework.web.context.request.WebRequest;
+
+@UtilityClass
+public class ConditionalRequests {
+
+    /**
+     * Responde 304 quando If-None-Match ou If-Modified-Since batem com a versão; caso contrário apenas
+     * adiciona ETag e Last-Modified à resposta. O controller deve retornar null quando o resultado for true.
+     */
+    public static boolean isNotModified(WebRequest webRequest, ResourceVersion version){
+        return version.lastModified() < 0
+                ? webRequest.checkNotModified(version.etag())
+                : webRequest.checkNotModified(version.etag(), version.lastModified());
+    }
+}
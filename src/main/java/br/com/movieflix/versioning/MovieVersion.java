@@ -0,0 +1,22 @@
+package br.com.movieflix.versioning;
+
+import br.com.movieflix.entity.Movie;
+
+import java.time.LocalDateTime;
+
+/**
+ * Versão de um filme, derivada da própria entidade devolvida na resposta e da versão das categorias e streamings,
+ * cujos nomes aparecem no corpo: o ETag muda com o filme e também quando uma categoria ou streaming muda.
+ */
+public record MovieVersion(Long id, LocalDateTime updatedAt, long referenceVersion, LocalDateTime referenceUpdatedAt) {
+
+    public static MovieVersion of(Movie movie, CatalogVersion catalogVersion){
+        return new MovieVersion(movie.getId(), movie.getUpdatedAt(),
+                catalogVersion.referenceVersion(), catalogVersion.referenceUpdatedAt());
+    }
+
+    public ResourceVersion resourceVersion(){
+        LocalDateTime lastModified = updatedAt == null || referenceUpdatedAt.isAfter(updatedAt) ? referenceUpdatedAt : updatedAt;
+        return ResourceVersion.of("movie-" + id + "-" + referenceVersion, lastModified);
+    }
+}
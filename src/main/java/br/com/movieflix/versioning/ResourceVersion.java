@@ -0,0 +1,45 @@
+package br.com.movieflix.versioning;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.HexFormat;
+
+/**
+ * Versão de um recurso para requisições condicionais: ETag fraco e, quando conhecido, Last-Modified em epoch millis
+ * (-1 quando não há data).
+ *
+ * <p>O ETag é fraco porque identifica a versão dos dados, não os bytes: a mesma versão é servida em JSON, CBOR ou Smile
+ * e com ou sem gzip. O Tomcat também não comprime respostas com ETag forte.</p>
+ */
+public record ResourceVersion(String etag, long lastModified) {
+
+    /**
+     * Versão derivada de um carimbo de alteração. O ETag usa microssegundos, a precisão do timestamp do Postgres,
+     * enquanto o Last-Modified do HTTP só distingue segundos.
+     */
+    public static ResourceVersion of(String tag, LocalDateTime updatedAt){
+        if (updatedAt == null) {
+            return new ResourceVersion("W/\"" + tag + "\"", -1);
+        }
+
+        long epochMicros = ChronoUnit.MICROS.between(LocalDateTime.of(1970, 1, 1, 0, 0), updatedAt);
+        return new ResourceVersion("W/\"" + tag + "-" + Long.toHexString(epochMicros) + "\"",
+                updatedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+    }
+
+    /**
+     * Versão derivada do próprio conteúdo, para recursos sem data de alteração que já estão em memória.
+     */
+    public static ResourceVersion ofContent(String tag, String content){
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(content.getBytes(StandardCharsets.UTF_8));
+            return new ResourceVersion("W/\"" + tag + "-" + HexFormat.of().formatHex(digest, 0, 12) + "\"", -1);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 indisponível", e);
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package br.com.movieflix.versioning;
+
+import br.com.movieflix.entity.Movie;
+
+/**
+ * Filme e a versão que o identifica nas requisições condicionais, lidos na mesma transação.
+ */
+public record VersionedMovie(Movie movie, ResourceVersion version) {
+}
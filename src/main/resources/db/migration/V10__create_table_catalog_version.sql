@@ -0,0 +1,9 @@
+-- Versão da listagem de filmes, incrementada na mesma transação de cada inclusão, alteração ou remoção.
+-- Evita o count/max sobre a tabela movie a cada requisição condicional e avança também com remoções.
+CREATE TABLE catalog_version (
+    id smallint PRIMARY KEY CHECK (id = 1),
+    version bigint NOT NULL,
+    updated_at timestamp NOT NULL
+);
+
+INSERT INTO catalog_version (id, version, updated_at) VALUES (1, 1, now());
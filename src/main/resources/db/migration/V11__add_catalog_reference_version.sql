@@ -0,0 +1,5 @@
+-- Versão das categorias e streamings, incrementada junto com a da listagem quando eles mudam.
+-- Os filmes exibem os nomes das suas categorias e streamings, então o ETag de cada filme também depende dela.
+ALTER TABLE catalog_version
+    ADD COLUMN reference_version bigint NOT NULL DEFAULT 1,
+    ADD COLUMN reference_updated_at timestamp NOT NULL DEFAULT now();
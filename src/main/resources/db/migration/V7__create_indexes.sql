@@ -0,0 +1,26 @@
+-- Remove linhas inválidas ou duplicadas antes de criar as chaves primárias das tabelas de junção
+DELETE FROM movie_category WHERE movie_id IS NULL OR category_id IS NULL;
+DELETE FROM movie_category a USING movie_category b
+WHERE a.ctid < b.ctid AND a.movie_id = b.movie_id AND a.category_id = b.category_id;
+
+DELETE FROM movie_streaming WHERE movie_id IS NULL OR streaming_id IS NULL;
+DELETE FROM movie_streaming a USING movie_streaming b
+WHERE a.ctid < b.ctid AND a.movie_id = b.movie_id AND a.streaming_id = b.streaming_id;
+
+ALTER TABLE movie_category ADD CONSTRAINT pk_movie_category PRIMARY KEY (movie_id, category_id);
+CREATE INDEX idx_movie_category_category ON movie_category (category_id, movie_id);
+
+ALTER TABLE movie_streaming ADD CONSTRAINT pk_movie_streaming PRIMARY KEY (movie_id, streaming_id);
+CREATE INDEX idx_movie_streaming_streaming ON movie_streaming (streaming_id, movie_id);
+
+-- O cadastro não verificava e-mails repetidos: a conta mais antiga mantém o e-mail e as demais recebem um sufixo,
+-- sem apagar dados (continuam no banco para serem resolvidas manualmente, mas não conseguem mais fazer login)
+UPDATE users u SET email = left(u.email, 220) || '#duplicado-' || u.id
+WHERE EXISTS (SELECT 1 FROM users o WHERE o.email = u.email AND o.id < u.id);
+
+CREATE UNIQUE INDEX idx_users_email ON users (email);
+
+-- Acompanham a ordenação da paginação por keyset (nota/lançamento decrescente, id crescente).
+-- Filmes sem data de lançamento ficam no fim, então o índice precisa de NULLS LAST (o padrão do DESC é NULLS FIRST)
+CREATE INDEX idx_movie_rating ON movie (rating DESC, id);
+CREATE INDEX idx_movie_release_date ON movie (release_date DESC NULLS LAST, id);
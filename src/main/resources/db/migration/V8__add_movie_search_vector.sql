@@ -0,0 +1,22 @@
+ALTER TABLE movie ADD COLUMN search_vector tsvector;
+
+-- Título pesa mais que a descrição no ranking. A configuração 'simple' não aplica stemming,
+-- o que mantém a busca por prefixo previsível para títulos em qualquer idioma.
+CREATE FUNCTION movie_search_vector_update() RETURNS trigger AS $$
+BEGIN
+    NEW.search_vector :=
+        setweight(to_tsvector('simple', coalesce(NEW.title, '')), 'A') ||
+        setweight(to_tsvector('simple', coalesce(NEW.description, '')), 'B');
+    RETURN NEW;
+END
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_movie_search_vector
+    BEFORE INSERT OR UPDATE OF title, description ON movie
+    FOR EACH ROW EXECUTE FUNCTION movie_search_vector_update();
+
+UPDATE movie SET search_vector =
+    setweight(to_tsvector('simple', coalesce(title, '')), 'A') ||
+    setweight(to_tsvector('simple', coalesce(description, '')), 'B');
+
+CREATE INDEX idx_movie_search_vector ON movie USING gin (search_vector);
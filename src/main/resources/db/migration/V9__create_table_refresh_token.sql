@@ -0,0 +1,21 @@
+-- Apenas o SHA-256 do refresh token é armazenado; o valor em si só existe no cliente
+CREATE TABLE refresh_token (
+    id bigserial PRIMARY KEY,
+    user_id integer NOT NULL REFERENCES users (id) ON DELETE CASCADE,
+    token_hash varchar(64) NOT NULL,
+    expires_at timestamp NOT NULL,
+    created_at timestamp NOT NULL DEFAULT now(),
+    revoked_at timestamp
+);
+
+CREATE UNIQUE INDEX idx_refresh_token_hash ON refresh_token (token_hash);
+CREATE INDEX idx_refresh_token_user ON refresh_token (user_id);
+CREATE INDEX idx_refresh_token_expires_at ON refresh_token (expires_at);
+
+-- Access tokens revogados antes de expirar (logout); cada instância mantém uma cópia em memória
+CREATE TABLE revoked_access_token (
+    jti uuid PRIMARY KEY,
+    expires_at timestamp NOT NULL
+);
+
+CREATE INDEX idx_revoked_access_token_expires_at ON revoked_access_token (expires_at);
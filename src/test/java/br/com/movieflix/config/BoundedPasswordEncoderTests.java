@@ -0,0 +1,92 @@
+package br.com.movieflix.config;
+
+import br.com.movieflix.exception.PasswordHashingBusyException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BoundedPasswordEncoderTests {
+
+	@Test
+	void rejectsHashingWhenAllPermitsAreTaken() throws Exception {
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		PasswordEncoder blocking = new BCryptPasswordEncoder(4) {
+			@Override
+			public String encode(CharSequence rawPassword) {
+				started.countDown();
+				try {
+					release.await(5, TimeUnit.SECONDS);
+				} catch (InterruptedException ex) {
+					Thread.currentThread().interrupt();
+				}
+				return super.encode(rawPassword);
+			}
+		};
+		SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+		BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(blocking, 1, 1, Duration.ofMillis(50), meterRegistry);
+
+		CompletableFuture<String> first = CompletableFuture.supplyAsync(() -> encoder.encode("senha"));
+		assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+		assertThatThrownBy(() -> encoder.encode("senha")).isInstanceOf(PasswordHashingBusyException.class);
+		assertThat(meterRegistry.get("movieflix.password.rejected").counter().count()).isEqualTo(1);
+
+		release.countDown();
+		assertThat(encoder.matches("senha", first.get(5, TimeUnit.SECONDS))).isTrue();
+	}
+
+	@Test
+	void rejectsImmediatelyWhenTheWaitQueueIsFull() throws Exception {
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		PasswordEncoder blocking = new BCryptPasswordEncoder(4) {
+			@Override
+			public String encode(CharSequence rawPassword) {
+				started.countDown();
+				try {
+					release.await(5, TimeUnit.SECONDS);
+				} catch (InterruptedException ex) {
+					Thread.currentThread().interrupt();
+				}
+				return super.encode(rawPassword);
+			}
+		};
+		SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+		BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(blocking, 1, 0, Duration.ofSeconds(10), meterRegistry);
+
+		CompletableFuture<String> first = CompletableFuture.supplyAsync(() -> encoder.encode("senha"));
+		assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+		// Sem vaga na fila, a recusa não espera o acquire-timeout
+		long start = System.nanoTime();
+		assertThatThrownBy(() -> encoder.encode("senha")).isInstanceOf(PasswordHashingBusyException.class);
+		assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(1));
+
+		release.countDown();
+		first.get(5, TimeUnit.SECONDS);
+	}
+
+	@Test
+	void upgradesLegacyAndWeakerHashes() {
+		PasswordEncoder encoder = SecurityConfig.delegatingPasswordEncoder(6);
+		String legacyHash = new BCryptPasswordEncoder(6).encode("senha");
+		String weakerHash = SecurityConfig.delegatingPasswordEncoder(4).encode("senha");
+		String currentHash = encoder.encode("senha");
+
+		assertThat(encoder.matches("senha", legacyHash)).isTrue();
+		assertThat(encoder.upgradeEncoding(legacyHash)).isTrue();
+		assertThat(encoder.upgradeEncoding(weakerHash)).isTrue();
+		assertThat(currentHash).startsWith("{bcrypt}");
+		assertThat(encoder.upgradeEncoding(currentHash)).isFalse();
+	}
+}
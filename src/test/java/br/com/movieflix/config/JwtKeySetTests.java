@@ -0,0 +1,76 @@
+package br.com.movieflix.config;
+
+import br.com.movieflix.entity.User;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.InstanceOfAssertFactories;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.security.KeyPair;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JwtKeySetTests {
+
+	private final User user = User.builder().id(1L).name("Maria").email("maria@movieflix.com").build();
+
+	@Test
+	void verifiesTokensSignedWithRetiredKeysAfterRotation() {
+		KeyPair previous = JwtAlgorithm.ES256.generateKeyPair();
+		KeyPair current = JwtAlgorithm.ES256.generateKeyPair();
+		JwtKeySet beforeRotation = JwtKeySet.of(JwtAlgorithm.ES256,
+				List.of(new JwtKeySet.JwtKey("2024", previous.getPublic(), previous.getPrivate())), "2024");
+		JwtKeySet afterRotation = JwtKeySet.of(JwtAlgorithm.ES256, List.of(
+				new JwtKeySet.JwtKey("2024", previous.getPublic(), null),
+				new JwtKeySet.JwtKey("2025", current.getPublic(), current.getPrivate())), "2025");
+
+		String oldToken = tokenService(beforeRotation).generateToken(user);
+		TokenService rotated = tokenService(afterRotation);
+
+		assertThat(rotated.verifyToken(oldToken)).hasValueSatisfying(data -> assertThat(data.email()).isEqualTo(user.getEmail()));
+		assertThat(rotated.verifyToken(rotated.generateToken(user))).isPresent();
+	}
+
+	@Test
+	void rejectsUnknownKidsAndOtherAlgorithms() {
+		TokenService tokenService = tokenService(JwtKeySet.ephemeral(JwtAlgorithm.ES256));
+
+		assertThat(tokenService.verifyToken(tokenService(JwtKeySet.ephemeral(JwtAlgorithm.ES256)).generateToken(user))).isEmpty();
+		assertThat(tokenService.verifyToken(tokenService(JwtKeySet.hmac("palavra-secreta")).generateToken(user))).isEmpty();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void publishesOnlyPublicKeys() {
+		JwtKeySet keySet = JwtKeySet.ephemeral(JwtAlgorithm.RS256);
+
+		List<Map<String, Object>> keys = (List<Map<String, Object>>) keySet.jwks().get("keys");
+		assertThat(keys).singleElement().satisfies(jwk -> {
+			assertThat(jwk).containsEntry("kid", keySet.activeKid()).containsEntry("kty", "RSA").containsEntry("alg", "RS256");
+			assertThat(jwk).containsOnlyKeys("kid", "use", "alg", "kty", "n", "e");
+		});
+		assertThat(JwtKeySet.hmac("palavra-secreta").jwks().get("keys")).asInstanceOf(InstanceOfAssertFactories.LIST).isEmpty();
+	}
+
+	@Test
+	void refusesEphemeralKeysOutsideDevProfile() {
+		JwtProperties properties = new JwtProperties(JwtAlgorithm.ES256, null, List.of());
+		MockEnvironment production = new MockEnvironment();
+		MockEnvironment dev = new MockEnvironment();
+		dev.setActiveProfiles("dev");
+
+		assertThatThrownBy(() -> new JwtConfig().jwtKeySet(properties, "", new DefaultResourceLoader(), production))
+				.isInstanceOf(IllegalStateException.class);
+		assertThat(new JwtConfig().jwtKeySet(properties, "", new DefaultResourceLoader(), dev).jwtAlgorithm())
+				.isEqualTo(JwtAlgorithm.ES256);
+	}
+
+	private static TokenService tokenService(JwtKeySet keySet) {
+		return new TokenService(keySet, 100, Duration.ofMinutes(15), new SimpleMeterRegistry());
+	}
+}
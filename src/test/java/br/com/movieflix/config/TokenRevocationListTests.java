@@ -0,0 +1,71 @@
+package br.com.movieflix.config;
+
+import br.com.movieflix.entity.RevokedAccessToken;
+import br.com.movieflix.repository.RevokedAccessTokenRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TokenRevocationListTests {
+
+	private final RevokedAccessTokenRepository repository = mock(RevokedAccessTokenRepository.class);
+	private final TokenRevocationList revocationList = new TokenRevocationList(repository, 1_000, new SimpleMeterRegistry());
+
+	@Test
+	void revokesTokensUntilTheyExpire() {
+		UUID revoked = UUID.randomUUID();
+		UUID expired = UUID.randomUUID();
+
+		revocationList.revoke(revoked, Instant.now().plusSeconds(60));
+		revocationList.revoke(expired, Instant.now().minusSeconds(1));
+
+		assertThat(revocationList.isRevoked(revoked)).isTrue();
+		assertThat(revocationList.isRevoked(expired)).isFalse();
+		assertThat(revocationList.isRevoked(UUID.randomUUID())).isFalse();
+		verify(repository).save(any(RevokedAccessToken.class));
+	}
+
+	@Test
+	void loadsRevocationsFromOtherInstances() {
+		UUID jti = UUID.randomUUID();
+		when(repository.findByExpiresAtAfter(any())).thenReturn(List.of(new RevokedAccessToken(jti, LocalDateTime.now().plusMinutes(5))));
+
+		revocationList.sync();
+
+		assertThat(revocationList.isRevoked(jti)).isTrue();
+	}
+
+	@Test
+	void bloomFilterHasNoFalseNegatives() {
+		JtiBloomFilter filter = new JtiBloomFilter(10_000, 0.01);
+		List<UUID> added = Stream.generate(UUID::randomUUID).limit(10_000).toList();
+		added.forEach(filter::add);
+
+		assertThat(added).allMatch(filter::mightContain);
+		long falsePositives = Stream.generate(UUID::randomUUID).limit(10_000).filter(filter::mightContain).count();
+		assertThat(falsePositives).isLessThan(300);
+	}
+
+	@Test
+	void copiesLeaveTheOriginalFilterUnchanged() {
+		JtiBloomFilter published = new JtiBloomFilter(1_000, 0.01);
+		UUID jti = UUID.randomUUID();
+
+		JtiBloomFilter updated = published.copy();
+		updated.add(jti);
+
+		assertThat(updated.mightContain(jti)).isTrue();
+		assertThat(published.mightContain(jti)).isFalse();
+	}
+}
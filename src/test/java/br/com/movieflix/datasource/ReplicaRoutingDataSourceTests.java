@@ -0,0 +1,135 @@
+package br.com.movieflix.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.support.JdbcTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ReplicaRoutingDataSourceTests {
+
+	@AfterEach
+	void tearDown() {
+		TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+	}
+
+	@Test
+	void routesReadOnlyTransactionsToReplicasInTurn() throws Exception {
+		ReplicaRoutingDataSource routing = routing(Map.of("replica-0", replica(0.0), "replica-1", replica(1.0)));
+
+		assertThat(routing.determineCurrentLookupKey()).isEqualTo(ReplicaRoutingDataSource.PRIMARY);
+
+		TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+		assertThat(routing.determineCurrentLookupKey()).isEqualTo("replica-0");
+		assertThat(routing.determineCurrentLookupKey()).isEqualTo("replica-1");
+		assertThat(routing.determineCurrentLookupKey()).isEqualTo("replica-0");
+	}
+
+	@Test
+	void skipsLaggingAndUnreachableReplicas() throws Exception {
+		DataSource unreachable = mock(DataSource.class);
+		when(unreachable.getConnection()).thenThrow(new SQLException("connection refused"));
+		ReplicaRoutingDataSource routing = routing(Map.of("replica-0", replica(30.0), "replica-1", unreachable, "replica-2", replica(0.5)));
+		TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+		for (int i = 0; i < 5; i++) {
+			assertThat(routing.determineCurrentLookupKey()).isEqualTo("replica-2");
+		}
+		assertThat(routing.replicaStatus())
+				.extracting(ReplicaRoutingDataSource.ReplicaStatus::available)
+				.containsExactly(false, false, true);
+	}
+
+	@Test
+	void fallsBackToPrimaryWithoutAvailableReplicas() throws Exception {
+		ReplicaRoutingDataSource routing = routing(Map.of("replica-0", replica(60.0)));
+		TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+		assertThat(routing.determineCurrentLookupKey()).isEqualTo(ReplicaRoutingDataSource.PRIMARY);
+	}
+
+	@Test
+	void writeAfterReadOnlyTransactionRunsOnPrimary() throws Exception {
+		DataSource primary = replica(0.0);
+		Connection primaryConnection = primary.getConnection();
+		DataSource replica = replica(0.0);
+		Connection replicaConnection = replica.getConnection();
+		ReplicaRoutingDataSource routing = routing(primary, Map.of("replica-0", replica));
+		LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(routing);
+		TransactionTemplate readOnly = new TransactionTemplate(new JdbcTransactionManager(dataSource));
+		readOnly.setReadOnly(true);
+		TransactionTemplate write = new TransactionTemplate(new JdbcTransactionManager(dataSource));
+
+		// Mesma requisição: busca o filme numa transação somente leitura e depois o remove
+		readOnly.executeWithoutResult(status -> execute(dataSource, "select * from movie where id = 1"));
+		verify(replicaConnection).commit();
+		verify(primaryConnection, never()).commit();
+
+		write.executeWithoutResult(status -> execute(dataSource, "delete from movie where id = 1"));
+		verify(primaryConnection).commit();
+		verify(replicaConnection).commit();
+	}
+
+	@Test
+	void hibernateReleasesConnectionAfterEachTransaction() {
+		Map<String, Object> properties = new HashMap<>();
+
+		new ReplicaRoutingConfig().releaseConnectionAfterTransaction().customize(properties);
+
+		assertThat(properties).containsEntry(AvailableSettings.CONNECTION_HANDLING,
+				PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION);
+	}
+
+	private static void execute(DataSource dataSource, String sql) {
+		try (Statement statement = DataSourceUtils.getConnection(dataSource).createStatement()) {
+			statement.executeQuery(sql);
+		} catch (SQLException ex) {
+			throw new IllegalStateException(ex);
+		}
+	}
+
+	private static ReplicaRoutingDataSource routing(Map<String, DataSource> replicas) {
+		return routing(mock(DataSource.class), replicas);
+	}
+
+	private static ReplicaRoutingDataSource routing(DataSource primary, Map<String, DataSource> replicas) {
+		ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(primary,
+				new TreeMap<>(replicas), Duration.ofSeconds(5));
+		routing.afterPropertiesSet();
+		return routing;
+	}
+
+	private static DataSource replica(double lagSeconds) throws SQLException {
+		ResultSet resultSet = mock(ResultSet.class);
+		when(resultSet.next()).thenReturn(true);
+		when(resultSet.getDouble(1)).thenReturn(lagSeconds);
+		Statement statement = mock(Statement.class);
+		when(statement.executeQuery(anyString())).thenReturn(resultSet);
+		Connection connection = mock(Connection.class);
+		when(connection.createStatement()).thenReturn(statement);
+		DataSource dataSource = mock(DataSource.class);
+		when(dataSource.getConnection()).thenReturn(connection);
+		return dataSource;
+	}
+}
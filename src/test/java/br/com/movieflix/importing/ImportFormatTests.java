@@ -0,0 +1,59 @@
+package br.com.movieflix.importing;
+
+import br.com.movieflix.controller.request.MovieRequest;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ImportFormatTests {
+
+	private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+	@Test
+	void detectsFormatFromContentType() {
+		assertThat(ImportFormat.fromContentType("application/x-ndjson")).isEqualTo(ImportFormat.NDJSON);
+		assertThat(ImportFormat.fromContentType("text/csv; charset=UTF-8")).isEqualTo(ImportFormat.CSV);
+		assertThat(ImportFormat.fromContentType("application/json")).isEqualTo(ImportFormat.JSON);
+	}
+
+	@Test
+	void readsCsvWithReorderedColumnsAndIdLists() throws Exception {
+		String csv = """
+				rating,title,releaseDate,categories,streamings,description
+				9.2,O Poderoso Chefão,24/03/1972,1;2,3,Clássico
+				""";
+
+		List<MovieRequest> movies = read(ImportFormat.CSV, csv);
+
+		assertThat(movies).hasSize(1);
+		assertThat(movies.get(0).title()).isEqualTo("O Poderoso Chefão");
+		assertThat(movies.get(0).releaseDate()).isEqualTo(LocalDate.of(1972, 3, 24));
+		assertThat(movies.get(0).rating()).isEqualTo(9.2);
+		assertThat(movies.get(0).categories()).containsExactly(1L, 2L);
+		assertThat(movies.get(0).streamings()).containsExactly(3L);
+	}
+
+	@Test
+	void readsJsonArrayAndNdjsonRecordByRecord() throws Exception {
+		String array = "[{\"title\":\"Duna\",\"rating\":8.0},{\"title\":\"Alien\",\"rating\":8.5}]";
+		String ndjson = "{\"title\":\"Duna\",\"rating\":8.0}\n{\"title\":\"Alien\",\"rating\":8.5}\n";
+
+		assertThat(read(ImportFormat.JSON, array)).extracting(MovieRequest::title).containsExactly("Duna", "Alien");
+		assertThat(read(ImportFormat.NDJSON, ndjson)).extracting(MovieRequest::title).containsExactly("Duna", "Alien");
+	}
+
+	private List<MovieRequest> read(ImportFormat format, String body) throws Exception {
+		try (MappingIterator<MovieRequest> rows = format.reader(objectMapper)
+				.readValues(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)))) {
+			return rows.readAll();
+		}
+	}
+}
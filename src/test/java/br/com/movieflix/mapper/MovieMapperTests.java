@@ -0,0 +1,65 @@
+package br.com.movieflix.mapper;
+
+import br.com.movieflix.controller.response.SideloadedMoviePageResponse;
+import br.com.movieflix.entity.Category;
+import br.com.movieflix.entity.Movie;
+import br.com.movieflix.entity.Streaming;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MovieMapperTests {
+
+	private static final Category DRAMA = Category.builder().id(1L).name("Drama").build();
+	private static final Category CRIME = Category.builder().id(2L).name("Crime").build();
+	private static final Streaming NETFLIX = Streaming.builder().id(10L).name("Netflix").build();
+
+	@Test
+	void sideloadsEachCategoryAndStreamingOnce() {
+		List<Movie> movies = List.of(
+				movie(1L, List.of(DRAMA, CRIME), List.of(NETFLIX)),
+				movie(2L, List.of(CRIME), List.of(NETFLIX)));
+
+		SideloadedMoviePageResponse page = MovieMapper.toSideloadedMoviePageResponse(movies, "cursor");
+
+		assertThat(page.size()).isEqualTo(2);
+		assertThat(page.nextCursor()).isEqualTo("cursor");
+		assertThat(page.categories()).extracting("id").containsExactly(1L, 2L);
+		assertThat(page.streamings()).extracting("id").containsExactly(10L);
+		assertThat(page.content().get(0).categories()).containsExactly(1L, 2L);
+		assertThat(page.content().get(1).categories()).containsExactly(2L);
+		assertThat(page.content().get(1).streamings()).containsExactly(10L);
+	}
+
+	@Test
+	void sideloadedPageRoundTripsThroughCbor() throws Exception {
+		ObjectMapper json = Jackson2ObjectMapperBuilder.json().build();
+		ObjectMapper cbor = Jackson2ObjectMapperBuilder.json().factory(new CBORFactory()).build();
+		SideloadedMoviePageResponse page = MovieMapper.toSideloadedMoviePageResponse(
+				List.of(movie(1L, List.of(DRAMA), List.of(NETFLIX))), null);
+
+		byte[] encoded = cbor.writeValueAsBytes(page);
+
+		assertThat(cbor.readValue(encoded, SideloadedMoviePageResponse.class)).isEqualTo(page);
+		assertThat(encoded.length).isLessThan(json.writeValueAsBytes(page).length);
+	}
+
+	private static Movie movie(Long id, List<Category> categories, List<Streaming> streamings) {
+		return Movie.builder()
+				.id(id)
+				.title("Filme " + id)
+				.description("Descrição do filme " + id)
+				.releaseDate(LocalDate.of(1998, 10, 19))
+				.rating(7.8)
+				.categories(categories)
+				.streamings(streamings)
+				.build();
+	}
+
+}
@@ -0,0 +1,92 @@
+package br.com.movieflix.monitoring;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SqlBudgetFilterTests {
+
+	private final SqlOffenders offenders = new SqlOffenders(10);
+	private final DataSource target = mock(DataSource.class);
+	private final Connection connection = mock(Connection.class);
+	private final SqlCountingDataSource dataSource = new SqlCountingDataSource(target);
+	private SqlBudgetFilter filter;
+
+	@BeforeEach
+	void setUp() throws SQLException {
+		when(target.getConnection()).thenReturn(connection);
+		when(connection.prepareStatement(anyString())).thenAnswer(invocation -> mock(PreparedStatement.class));
+		when(connection.createStatement()).thenAnswer(invocation -> mock(Statement.class));
+		filter = new SqlBudgetFilter(offenders);
+		ReflectionTestUtils.setField(filter, "maxStatements", 20);
+		ReflectionTestUtils.setField(filter, "maxDbTime", Duration.ofSeconds(10));
+		ReflectionTestUtils.setField(filter, "maxRepeatedStatements", 5);
+	}
+
+	@Test
+	void recordsRequestsWithRepeatedStatements() throws Exception {
+		filter.doFilter(new MockHttpServletRequest("GET", "/movieflix/movie"), new MockHttpServletResponse(), (request, response) -> {
+			query("select * from movie");
+			for (int i = 0; i < 8; i++) {
+				query("select * from category where id = ?");
+			}
+		});
+
+		assertThat(offenders.latest()).singleElement().satisfies(offender -> {
+			assertThat(offender.path()).isEqualTo("/movieflix/movie");
+			assertThat(offender.statements()).isEqualTo(9);
+			assertThat(offender.mostRepeatedCount()).isEqualTo(8);
+			assertThat(offender.violations()).containsExactly("repeated-statement");
+		});
+	}
+
+	@Test
+	void ignoresRequestsWithinBudget() throws Exception {
+		filter.doFilter(new MockHttpServletRequest("GET", "/movieflix/category"), new MockHttpServletResponse(),
+				(request, response) -> query("select * from category"));
+
+		assertThat(offenders.latest()).isEmpty();
+		assertThat(SqlRequestContext.current()).isNull();
+	}
+
+	@Test
+	void countsStatementsOutsideHibernate() throws Exception {
+		SqlRequestContext context = SqlRequestContext.start();
+		try (Connection counted = dataSource.getConnection()) {
+			// Como o JdbcTemplate: statement simples e lote preparado
+			counted.createStatement().execute("update catalog_version set version = version + 1");
+			PreparedStatement insert = counted.prepareStatement("insert into movie_category values (?, ?)");
+			insert.addBatch();
+			insert.addBatch();
+			insert.executeBatch();
+		} finally {
+			SqlRequestContext.clear();
+		}
+
+		assertThat(context.statements()).isEqualTo(2);
+		verify(connection).close();
+	}
+
+	private void query(String sql) {
+		try (Connection counted = dataSource.getConnection()) {
+			counted.prepareStatement(sql).executeQuery();
+		} catch (SQLException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+}
@@ -0,0 +1,42 @@
+package br.com.movieflix.pagination;
+
+import br.com.movieflix.entity.Movie;
+import br.com.movieflix.exception.InvalidCursorException;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MovieCursorTests {
+
+	@Test
+	void encodesAndDecodesRatingCursor() {
+		Movie movie = Movie.builder().id(42L).rating(7.8).build();
+
+		MovieCursor cursor = MovieCursor.decode(MovieCursor.after(MovieSort.RATING, movie).encode());
+
+		assertThat(cursor.sort()).isEqualTo(MovieSort.RATING);
+		assertThat(cursor.rating()).isEqualTo(7.8);
+		assertThat(cursor.id()).isEqualTo(42L);
+	}
+
+	@Test
+	void keepsMissingReleaseDate() {
+		Movie withDate = Movie.builder().id(1L).releaseDate(LocalDate.of(1998, 10, 19)).build();
+		Movie withoutDate = Movie.builder().id(2L).build();
+
+		assertThat(MovieCursor.decode(MovieCursor.after(MovieSort.RELEASE_DATE, withDate).encode()).releaseDate())
+				.isEqualTo(LocalDate.of(1998, 10, 19));
+		assertThat(MovieCursor.decode(MovieCursor.after(MovieSort.RELEASE_DATE, withoutDate).encode()).releaseDate())
+				.isNull();
+	}
+
+	@Test
+	void rejectsTamperedCursor() {
+		assertThatThrownBy(() -> MovieCursor.decode("nao-e-um-cursor"))
+				.isInstanceOf(InvalidCursorException.class);
+	}
+
+}
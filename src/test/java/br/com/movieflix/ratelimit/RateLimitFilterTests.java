@@ -0,0 +1,116 @@
+package br.com.movieflix.ratelimit;
+
+import br.com.movieflix.config.JWTUserData;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimitFilterTests {
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	@AfterEach
+	void tearDown() {
+		SecurityContextHolder.clearContext();
+	}
+
+	@Test
+	void tokenBucketAllowsBurstThenSustainedRate() {
+		long now = 0;
+		TokenBucket bucket = new TokenBucket(10, 3, now);
+
+		assertThat(bucket.tryAcquire(now)).isZero();
+		assertThat(bucket.tryAcquire(now)).isZero();
+		assertThat(bucket.tryAcquire(now)).isZero();
+		assertThat(bucket.tryAcquire(now)).isEqualTo(TimeUnit.MILLISECONDS.toNanos(100));
+
+		assertThat(bucket.tryAcquire(now + TimeUnit.MILLISECONDS.toNanos(100))).isZero();
+		assertThat(bucket.tryAcquire(now + TimeUnit.MILLISECONDS.toNanos(100))).isPositive();
+	}
+
+	@Test
+	void limitsEachUserSeparately() throws Exception {
+		RateLimitFilter filter = filter(new RateLimitProperties.Concurrency(false, 10, 1, 10, Duration.ofSeconds(1), List.of()));
+
+		assertThat(get(filter, 1L).getStatus()).isEqualTo(200);
+		assertThat(get(filter, 1L).getStatus()).isEqualTo(200);
+		MockHttpServletResponse rejected = get(filter, 1L);
+		assertThat(rejected.getStatus()).isEqualTo(429);
+		assertThat(rejected.getHeader("Retry-After")).isEqualTo("1");
+
+		assertThat(get(filter, 2L).getStatus()).isEqualTo(200);
+		assertThat(meterRegistry.get("movieflix.ratelimit.rejected").tag("policy", "movie-list").counter().count()).isEqualTo(1);
+	}
+
+	@Test
+	void shedsRequestsAboveTheConcurrencyLimit() throws Exception {
+		RateLimitFilter filter = filter(new RateLimitProperties.Concurrency(true, 1, 1, 1, Duration.ofSeconds(1), List.of()));
+
+		MockHttpServletResponse[] nested = new MockHttpServletResponse[1];
+		MockHttpServletResponse outer = new MockHttpServletResponse();
+		filter.doFilter(new MockHttpServletRequest("GET", "/movieflix/category"), outer, (request, response) -> {
+			// Segunda requisição enquanto a primeira ainda ocupa a única vaga
+			nested[0] = new MockHttpServletResponse();
+			filter.doFilter(new MockHttpServletRequest("GET", "/movieflix/streaming"), nested[0], (r, s) -> { });
+		});
+
+		assertThat(outer.getStatus()).isEqualTo(200);
+		assertThat(nested[0].getStatus()).isEqualTo(503);
+	}
+
+	@Test
+	void neverLimitsActuatorEndpoints() throws Exception {
+		RateLimitFilter filter = filter(new RateLimitProperties.Concurrency(true, 1, 1, 1, Duration.ofSeconds(1), List.of()));
+
+		MockHttpServletResponse[] probe = new MockHttpServletResponse[1];
+		MockHttpServletResponse outer = new MockHttpServletResponse();
+		filter.doFilter(new MockHttpServletRequest("GET", "/movieflix/category"), outer, (request, response) -> {
+			// Health check enquanto a única vaga de concorrência está ocupada
+			probe[0] = new MockHttpServletResponse();
+			filter.doFilter(new MockHttpServletRequest("GET", "/actuator/health"), probe[0], (r, s) -> { });
+		});
+
+		assertThat(probe[0].getStatus()).isEqualTo(200);
+	}
+
+	@Test
+	void concurrencyLimitAdaptsToLatency() {
+		AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(10, 2, 20, TimeUnit.MILLISECONDS.toNanos(100));
+		long now = System.nanoTime();
+
+		for (int i = 0; i < 6; i++) {
+			assertThat(limit.tryAcquire()).isTrue();
+		}
+		limit.release(TimeUnit.MILLISECONDS.toNanos(10), now);
+		assertThat(limit.limit()).isEqualTo(11);
+
+		limit.release(TimeUnit.SECONDS.toNanos(1), now + TimeUnit.SECONDS.toNanos(1));
+		limit.release(TimeUnit.SECONDS.toNanos(1), now + TimeUnit.SECONDS.toNanos(1));
+		assertThat(limit.limit()).isEqualTo(9);
+	}
+
+	private RateLimitFilter filter(RateLimitProperties.Concurrency concurrency) {
+		RateLimitProperties properties = new RateLimitProperties(true, 1_000, List.of(
+				new RateLimitProperties.Policy("movie-list", "/movieflix/movie", "GET", 1, 2),
+				new RateLimitProperties.Policy("default", "/movieflix/**", null, 1_000, 1_000)), List.of("/actuator/**"), concurrency);
+		return new RateLimitFilter(properties, meterRegistry);
+	}
+
+	private static MockHttpServletResponse get(RateLimitFilter filter, Long userId) throws Exception {
+		SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+				JWTUserData.builder().id(userId).build(), null, null));
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		filter.doFilter(new MockHttpServletRequest("GET", "/movieflix/movie"), response, (request, r) -> { });
+		return response;
+	}
+}
@@ -0,0 +1,116 @@
+package br.com.movieflix.search;
+
+import br.com.movieflix.entity.Movie;
+import br.com.movieflix.repository.MovieRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TitleAutocompleteIndexTests {
+
+	private TitleAutocompleteIndex index;
+
+	@BeforeEach
+	void setUp() {
+		index = new TitleAutocompleteIndex(null);
+		ReflectionTestUtils.setField(index, "maxTitles", 100);
+		ReflectionTestUtils.setField(index, "maxPostingsPerQuery", 1_000);
+		index.put(movie(1L, "O Poderoso Chefão", 9.2));
+		index.put(movie(2L, "Poderoso Chefinho", 6.3));
+		index.put(movie(3L, "Interestelar", 8.7));
+	}
+
+	@Test
+	void suggestsByPrefixRankedByRating() {
+		assertThat(index.suggest("poder", 10))
+				.extracting(TitleEntry::id)
+				.containsExactly(1L, 2L);
+	}
+
+	@Test
+	void toleratesTyposAndAccents() {
+		assertThat(index.suggest("interstelar", 10))
+				.extracting(TitleEntry::id)
+				.containsExactly(3L);
+		assertThat(index.suggest("chefao", 1))
+				.extracting(TitleEntry::id)
+				.containsExactly(1L);
+	}
+
+	@Test
+	void followsUpdatesAndRemovals() {
+		index.put(movie(3L, "Duna", 8.0));
+		index.remove(1L);
+
+		assertThat(index.suggest("interestelar", 10)).isEmpty();
+		assertThat(index.suggest("duna", 10)).extracting(TitleEntry::id).containsExactly(3L);
+		assertThat(index.suggest("poderoso", 10)).extracting(TitleEntry::id).containsExactly(2L);
+		assertThat(index.stats().titles()).isEqualTo(2);
+	}
+
+	@Test
+	void skipsCommonTrigramsBeyondThePostingBudget() {
+		ReflectionTestUtils.setField(index, "maxTitles", 10_000);
+		ReflectionTestUtils.setField(index, "maxPostingsPerQuery", 50);
+		for (long id = 100; id < 2_100; id++) {
+			index.put(movie(id, "O Filme " + id, 5.0));
+		}
+
+		// "$$o", "$$f", "$fi"... estão em milhares de títulos; "poderoso" ainda é encontrado pelos trigramas raros
+		assertThat(index.suggest("o filme poderoso", 10))
+				.extracting(TitleEntry::id)
+				.contains(1L);
+	}
+
+	@Test
+	void countsTitlesRejectedOverCapacity() {
+		ReflectionTestUtils.setField(index, "maxTitles", 3);
+
+		index.put(movie(4L, "Duna", 8.0));
+		index.put(movie(5L, "Alien", 8.5));
+
+		assertThat(index.stats().titles()).isEqualTo(3);
+		assertThat(index.stats().rejectedTitles()).isEqualTo(2);
+		assertThat(index.suggest("duna", 10)).isEmpty();
+	}
+
+	@Test
+	void keepsServingAndKeepsWritesWhileRebuilding() {
+		MovieRepository movieRepository = mock(MovieRepository.class);
+		TitleAutocompleteIndex rebuilt = new TitleAutocompleteIndex(movieRepository);
+		ReflectionTestUtils.setField(rebuilt, "maxTitles", 100);
+		ReflectionTestUtils.setField(rebuilt, "maxPostingsPerQuery", 1_000);
+		rebuilt.put(movie(1L, "O Poderoso Chefão", 9.2));
+
+		when(movieRepository.findTitlesAfter(anyLong(), any())).thenAnswer(invocation -> {
+			// Outra thread consulta e escreve enquanto o catálogo é lido
+			List<TitleEntry> duringBuild = CompletableFuture.supplyAsync(() -> {
+				rebuilt.put(movie(3L, "Duna", 8.0));
+				rebuilt.remove(1L);
+				return rebuilt.suggest("duna", 10);
+			}).get(5, TimeUnit.SECONDS);
+			assertThat(duringBuild).extracting(TitleEntry::id).containsExactly(3L);
+			return List.of(new TitleEntry(1L, "O Poderoso Chefão", 9.2), new TitleEntry(2L, "Interestelar", 8.7));
+		});
+
+		rebuilt.build();
+
+		assertThat(rebuilt.suggest("duna", 10)).extracting(TitleEntry::id).containsExactly(3L);
+		assertThat(rebuilt.suggest("poderoso", 10)).isEmpty();
+		assertThat(rebuilt.suggest("interestelar", 10)).extracting(TitleEntry::id).containsExactly(2L);
+	}
+
+	private Movie movie(Long id, String title, double rating) {
+		return Movie.builder().id(id).title(title).rating(rating).build();
+	}
+}
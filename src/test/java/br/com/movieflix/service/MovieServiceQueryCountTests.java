@@ -0,0 +1,101 @@
+package br.com.movieflix.service;
+
+import br.com.movieflix.entity.Category;
+import br.com.movieflix.entity.Movie;
+import br.com.movieflix.entity.Streaming;
+import br.com.movieflix.mapper.MovieMapper;
+import br.com.movieflix.pagination.MovieSort;
+import br.com.movieflix.repository.CategoryRepository;
+import br.com.movieflix.repository.MovieRepository;
+import br.com.movieflix.repository.StreamingRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional
+class MovieServiceQueryCountTests {
+
+	@Autowired
+	private MovieService movieService;
+
+	@Autowired
+	private MovieRepository movieRepository;
+
+	@Autowired
+	private CategoryRepository categoryRepository;
+
+	@Autowired
+	private StreamingRepository streamingRepository;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	private Category category;
+
+	@BeforeEach
+	void seedCatalog() {
+		List<Category> categories = categoryRepository.saveAll(IntStream.range(0, 3)
+				.mapToObj(i -> Category.builder().name("Categoria " + i).build())
+				.toList());
+		List<Streaming> streamings = streamingRepository.saveAll(IntStream.range(0, 3)
+				.mapToObj(i -> Streaming.builder().name("Streaming " + i).build())
+				.toList());
+		category = categories.get(0);
+
+		movieRepository.saveAll(IntStream.range(0, 30)
+				.mapToObj(i -> Movie.builder()
+						.title("Filme " + i)
+						.rating(i % 10)
+						.categories(List.of(categories.get(0), categories.get(1 + i % 2)))
+						.streamings(List.of(streamings.get(i % 3)))
+						.build())
+				.toList());
+
+		entityManager.flush();
+		entityManager.clear();
+	}
+
+	@Test
+	void pageLoadsAssociationsWithConstantQueryCount() {
+		long smallPage = countStatements(() -> movieService.findPage(MovieSort.RATING, null, 5).content()
+				.forEach(MovieMapper::toMovieResponse));
+		long largePage = countStatements(() -> movieService.findPage(MovieSort.RATING, null, 25).content()
+				.forEach(MovieMapper::toMovieResponse));
+
+		// 1 consulta da página + 1 lote de categorias + 1 lote de streamings
+		assertThat(smallPage).isEqualTo(3);
+		assertThat(largePage).isEqualTo(smallPage);
+	}
+
+	@Test
+	void searchByCategoryLoadsAssociationsWithConstantQueryCount() {
+		long statements = countStatements(() -> movieService.findByCategory(category.getId())
+				.forEach(MovieMapper::toMovieResponse));
+
+		assertThat(statements).isEqualTo(3);
+	}
+
+	private long countStatements(Runnable action) {
+		Statistics statistics = entityManager.getEntityManagerFactory()
+				.unwrap(SessionFactory.class)
+				.getStatistics();
+		entityManager.clear();
+		statistics.clear();
+
+		action.run();
+
+		return statistics.getPrepareStatementCount();
+	}
+
+}
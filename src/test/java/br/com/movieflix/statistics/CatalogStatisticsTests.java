@@ -0,0 +1,35 @@
+package br.com.movieflix.statistics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CatalogStatisticsTests {
+
+	private final CatalogStatistics statistics = new CatalogStatistics(null);
+
+	@Test
+	void keepsCountersAcrossWrites() {
+		MovieFacts chefao = new MovieFacts(List.of(1L, 2L), List.of(10L), 1972, 9.0);
+		MovieFacts duna = new MovieFacts(List.of(1L), List.of(10L, 20L), 2021, 8.0);
+
+		statistics.add(chefao);
+		statistics.add(duna);
+
+		assertThat(statistics.movies()).isEqualTo(2);
+		assertThat(statistics.moviesPerCategory()).containsEntry(1L, 2L).containsEntry(2L, 1L);
+		assertThat(statistics.ratingPerStreaming().get(10L).averageRating()).isEqualTo(8.5);
+		assertThat(statistics.releasesPerYear()).containsKeys(1972, 2021);
+
+		statistics.replace(duna, new MovieFacts(List.of(2L), List.of(20L), 2021, 6.0));
+		statistics.remove(chefao);
+
+		assertThat(statistics.movies()).isEqualTo(1);
+		assertThat(statistics.moviesPerCategory()).containsOnlyKeys(2L).containsEntry(2L, 1L);
+		assertThat(statistics.ratingPerStreaming()).containsOnlyKeys(20L);
+		assertThat(statistics.ratingPerStreaming().get(20L).averageRating()).isEqualTo(6.0);
+		assertThat(statistics.releasesPerYear()).containsOnlyKeys(2021);
+	}
+}
@@ -0,0 +1,40 @@
+package br.com.movieflix.versioning;
+
+import br.com.movieflix.entity.Movie;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ResourceVersionTests {
+
+	@Test
+	void emitsWeakEtagsSoResponsesCanBeCompressed() {
+		assertThat(ResourceVersion.of("movie-1", LocalDateTime.of(2025, 1, 1, 12, 0)).etag()).startsWith("W/\"movie-1-");
+		assertThat(ResourceVersion.of("movie-1", null).etag()).isEqualTo("W/\"movie-1\"");
+		assertThat(ResourceVersion.ofContent("categories", "1:Drama").etag()).startsWith("W/\"categories-");
+	}
+
+	@Test
+	void changesEtagWhenCatalogVersionAdvances() {
+		LocalDateTime updatedAt = LocalDateTime.of(2025, 1, 1, 12, 0);
+
+		assertThat(new CatalogVersion(2, updatedAt, 1, updatedAt).resourceVersion().etag())
+				.isNotEqualTo(new CatalogVersion(3, updatedAt, 1, updatedAt).resourceVersion().etag());
+	}
+
+	@Test
+	void changesMovieVersionWhenCategoriesOrStreamingsChange() {
+		LocalDateTime movieUpdatedAt = LocalDateTime.of(2025, 1, 1, 12, 0);
+		LocalDateTime renamedAt = LocalDateTime.of(2025, 2, 1, 12, 0);
+		Movie movie = Movie.builder().id(1L).updatedAt(movieUpdatedAt).build();
+
+		ResourceVersion before = MovieVersion.of(movie, new CatalogVersion(5, movieUpdatedAt, 1, movieUpdatedAt)).resourceVersion();
+		ResourceVersion after = MovieVersion.of(movie, new CatalogVersion(6, renamedAt, 2, renamedAt)).resourceVersion();
+
+		assertThat(after.etag()).isNotEqualTo(before.etag());
+		assertThat(after.lastModified()).isEqualTo(ResourceVersion.of("movie-1", renamedAt).lastModified());
+	}
+
+}